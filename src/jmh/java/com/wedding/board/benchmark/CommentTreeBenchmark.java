@@ -0,0 +1,45 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.domain.comment.Comment;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CommentApplicationService.getCommentsByPostId 의 트리 조립 비용.
+ * shape는 넓은 스레드(1000x1)부터 깊은 스레드(4x5)까지 댓글 1천~4천 개 규모다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"1000x1", "32x2", "10x3", "4x5"})
+    private String shape;
+
+    private CommentApplicationService commentService;
+
+    @Setup
+    public void setUp() {
+        commentService = SyntheticThread.of(shape).commentService();
+    }
+
+    @Benchmark
+    public List<Comment> assembleTree() {
+        return commentService.getCommentsByPostId(1L);
+    }
+}
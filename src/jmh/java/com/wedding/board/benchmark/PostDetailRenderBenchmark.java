@@ -0,0 +1,100 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.BoardApplication;
+import com.wedding.board.security.CustomUserDetails;
+import com.wedding.board.web.CommentForm;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+/**
+ * posts/detail.html + 재귀 fragments/comment.html 렌더링 비용.
+ * 애플리케이션의 Thymeleaf 설정(layout/security dialect 포함)을 그대로 쓰고, 모델은 PostController.detail 과 같게 채운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostDetailRenderBenchmark {
+
+    @Param({"1000x1", "32x2", "10x3", "4x5"})
+    private String shape;
+
+    /** 로그인 사용자는 댓글마다 수정/삭제/답글 영역이 추가로 렌더링된다 */
+    @Param({"false", "true"})
+    private boolean authenticated;
+
+    private ConfigurableApplicationContext context;
+    private ServletContext servletContext;
+    private View view;
+    private Map<String, Object> model;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        servletContext = ((WebApplicationContext) context).getServletContext();
+        view = context.getBean("thymeleafViewResolver", ViewResolver.class)
+                .resolveViewName("posts/detail", Locale.KOREAN);
+
+        SyntheticThread thread = SyntheticThread.of(shape);
+        model = new HashMap<>();
+        model.put("boardCode", "GENERAL");
+        model.put("post", thread.getPost());
+        model.put("comments", thread.commentService().getCommentsByPostId(1L));
+        model.put("commentCount", thread.size());
+        model.put("commentForm", new CommentForm());
+        model.put("editCommentId", null);
+        model.put("editCommentForm", new CommentForm());
+        if (authenticated) {
+            CustomUserDetails principal = new CustomUserDetails(thread.getAuthor());
+            model.put("currentUserId", principal.getId());
+            authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public String render() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/boards/GENERAL/posts/1");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        view.render(new HashMap<>(model), request, response);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.application.search.PostSearchIndex;
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.user.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 검색: bigram 역색인 vs 전체 글 부분 문자열 스캔(LIKE '%...%'와 같은 방식).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int WORDS_PER_POST = 80;
+
+    @Param({"1000", "10000"})
+    private int posts;
+
+    private final PostSearchIndex index = new PostSearchIndex(null);
+    private final List<Post> corpus = new ArrayList<>();
+    private String[] vocabulary;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary[i] = randomWord(random);
+        }
+        query = vocabulary[7] + " " + vocabulary[13];
+        Board board = Board.of("VENUE", "예식장");
+        User author = User.create("user1", "encoded");
+        for (long id = 1; id <= posts; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < WORDS_PER_POST; i++) {
+                content.append(word(random)).append(' ');
+            }
+            Post post = Post.create(board, word(random) + " 후기 " + id, content.toString(),
+                    author, word(random), null, null, null, null);
+            SyntheticThread.assignId(post, id);
+            corpus.add(post);
+            index.index(post);
+        }
+    }
+
+    @Benchmark
+    public List<Long> invertedIndex() {
+        return index.search("VENUE", query);
+    }
+
+    @Benchmark
+    public List<Long> substringScan() {
+        String[] terms = query.split(" ");
+        List<Long> matched = new ArrayList<>();
+        for (Post post : corpus) {
+            String text = post.getTitle() + " " + post.getLocation() + " " + post.getContent();
+            if (text.contains(terms[0]) && text.contains(terms[1])) {
+                matched.add(post.getId());
+            }
+        }
+        return matched;
+    }
+
+    /** 앞쪽 단어일수록 자주 나오는 (Zipf 비슷한) 분포 */
+    private String word(Random random) {
+        return vocabulary[(int) (VOCABULARY_SIZE * Math.pow(random.nextDouble(), 3))];
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(3);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.comment.Comment;
+import com.wedding.board.domain.comment.CommentRepository;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 없이 만든 게시글 + 댓글 스레드.
+ * shape "WxD"는 최상위 댓글 W개, 각 댓글마다 답글 W개씩 D단계까지를 뜻한다 (총 W + W^2 + ... + W^D 개).
+ */
+final class SyntheticThread {
+
+    private final Post post;
+    private final User author;
+    private final List<Comment> thread = new ArrayList<>();
+    private long nextCommentId = 1;
+
+    private SyntheticThread(int width, int depth) {
+        author = withId(User.create("user1", "encoded"), 1L);
+        post = withId(Post.create(Board.of("GENERAL", "자유게시판"), "제목", "내용", author,
+                null, null, null, null, null), 1L);
+        addReplies(null, width, depth);
+    }
+
+    static SyntheticThread of(String shape) {
+        String[] parts = shape.split("x");
+        return new SyntheticThread(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    /** path 순(DFS 전위)으로 쌓아 findThreadByPostId 결과와 같은 순서를 만든다 */
+    private void addReplies(Comment parent, int width, int remainingDepth) {
+        if (remainingDepth == 0) {
+            return;
+        }
+        for (int i = 0; i < width; i++) {
+            Comment comment = parent == null
+                    ? Comment.create("댓글 " + nextCommentId, post, author)
+                    : Comment.createReply("답글 " + nextCommentId, post, author, parent);
+            withId(comment, nextCommentId++);
+            comment.materializePath();
+            thread.add(comment);
+            addReplies(comment, width, remainingDepth - 1);
+        }
+    }
+
+    Post getPost() {
+        return post;
+    }
+
+    User getAuthor() {
+        return author;
+    }
+
+    int size() {
+        return thread.size();
+    }
+
+    /** findThreadByPostId만 이 스레드를 돌려주는 repository로 구성한 실제 서비스 */
+    CommentApplicationService commentService() {
+        CommentRepository commentRepository = stub(CommentRepository.class, "findThreadByPostId", thread);
+        return new CommentApplicationService(commentRepository,
+                stub(PostRepository.class, null, null), stub(UserRepository.class, null, null), event -> { });
+    }
+
+    private static <T> T stub(Class<T> type, String methodName, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    static <T> T assignId(T entity, Long id) {
+        return withId(entity, id);
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
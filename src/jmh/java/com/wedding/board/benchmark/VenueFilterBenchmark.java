@@ -0,0 +1,120 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.BoardApplication;
+import com.wedding.board.application.venue.VenueFilter;
+import com.wedding.board.application.venue.VenueFilter.Sort;
+import com.wedding.board.application.venue.VenueQueryService;
+import com.wedding.board.application.venue.VenueSlice;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 예식장 필터/비용순 목록 한 페이지 조회: total_cost 인덱스 유무 비교.
+ * 애플리케이션을 띄워 예식장 글을 직접 INSERT 한 뒤 VenueQueryService 로 조회한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VenueFilterBenchmark {
+
+    private static final int VENUES = 200_000;
+    private static final int CHUNK = 5_000;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"cost-sort", "cost-sort-meal-range", "cost-cap-latest", "meal-range-latest"})
+    private String scenario;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private VenueQueryService venueQueryService;
+    private IntFunction<VenueFilter> filter;
+    private int iteration;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN",
+                        "spring.datasource.url=jdbc:h2:mem:venue-filter-" + scenario + "-" + indexed)
+                .run();
+        venueQueryService = context.getBean(VenueQueryService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long authorId = context.getBean(UserRepository.class).save(User.create("bench", "encoded")).getId();
+        insertVenues(jdbcTemplate, authorId);
+        if (!indexed) {
+            jdbcTemplate.execute("DROP INDEX idx_posts_board_total_cost");
+        }
+        filter = filter(scenario);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** H2는 같은 문장을 같은 파라미터로 다시 실행하면 이전 결과를 재사용하므로 호출마다 상한값을 조금씩 바꾼다 */
+    @Benchmark
+    public VenueSlice page() {
+        return venueQueryService.getVenues(filter.apply(iteration++ & 0xFFFF), null, PAGE_SIZE);
+    }
+
+    private static IntFunction<VenueFilter> filter(String scenario) {
+        switch (scenario) {
+            case "cost-sort":
+                return i -> VenueFilter.of(null, null, null, Long.MAX_VALUE - i, Sort.TOTAL_COST);
+            case "cost-sort-meal-range":
+                return i -> VenueFilter.of(60_000, 70_000 + i, 150, null, Sort.TOTAL_COST);
+            case "cost-cap-latest":
+                return i -> VenueFilter.of(null, null, null, 8_000_000L + i, Sort.LATEST);
+            case "meal-range-latest":
+                return i -> VenueFilter.of(60_000, 70_000 + i, 150, null, Sort.LATEST);
+            default:
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        }
+    }
+
+    private static void insertVenues(JdbcTemplate jdbcTemplate, Long authorId) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int from = 0; from < VENUES; from += CHUNK) {
+            List<Object[]> rows = new ArrayList<>(CHUNK);
+            for (int i = from; i < from + CHUNK; i++) {
+                int mealPrice = 40_000 + random.nextInt(60) * 1_000;
+                int guaranteeMin = 100 + random.nextInt(30) * 10;
+                int rentalFee = random.nextInt(30) * 100_000;
+                Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i));
+                rows.add(new Object[]{"홀" + i, authorId, createdAt, createdAt, mealPrice, guaranteeMin, rentalFee,
+                        (long) mealPrice * guaranteeMin + rentalFee});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO posts (id, board_code, title, content, author_id, created_at, updated_at, "
+                    + "meal_price, guarantee_min, rental_fee, total_cost) "
+                    + "VALUES (NEXT VALUE FOR posts_seq, 'VENUE', ?, '내용', ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wedding.board.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 요청 종류별 지연시간 HdrHistogram (1us ~ 60s, 유효숫자 3자리)과 오류 수.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(1, HIGHEST_TRACKABLE, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void record(Operation operation, long elapsedNanos) {
+        histograms.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE));
+    }
+
+    void error(Operation operation) {
+        errors.get(operation).incrementAndGet();
+    }
+
+    void print(PrintStream out, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        out.printf("%-16s %9s %9s %9s %9s %9s %9s %9s %7s%n",
+                "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long count = histogram.getTotalCount();
+            total += count;
+            if (count == 0 && errors.get(operation).get() == 0) {
+                continue;
+            }
+            out.printf("%-16s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    operation.label(), count, count / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()), errors.get(operation).get());
+        }
+        out.printf("%-16s %9d %9.1f%n", "total", total, total / seconds);
+    }
+
+    /** 요청 종류별 백분위 분포 (.hgrm, HdrHistogram plotter 로 그릴 수 있다) */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(operation.label() + ".hgrm")), true, "UTF-8")) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
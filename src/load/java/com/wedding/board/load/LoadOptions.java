@@ -0,0 +1,77 @@
+package com.wedding.board.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션. 인자는 --key=value 형식이다.
+ * <pre>
+ * --users=50            동시 가상 사용자 수 (닫힌 부하 모델: 응답을 받으면 바로 다음 요청)
+ * --duration=60s        측정 시간
+ * --warmup=10s          측정 전 워밍업 (기록하지 않음)
+ * --posts=500           시드 게시글 수 (GENERAL 80%, VENUE 20%)
+ * --comments=20         게시글당 시드 댓글 수 (절반은 답글)
+ * --mix=list:40,detail:40,comment-create:8,comment-update:4,comment-delete:3,login:5
+ * --spring.xxx=...      그대로 애플리케이션 속성으로 전달 (예: --board.virtual-threads.enabled=true)
+ * </pre>
+ */
+final class LoadOptions {
+
+    int users = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    int posts = 500;
+    int commentsPerPost = 20;
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+    final Map<String, String> applicationProperties = new LinkedHashMap<>();
+
+    private LoadOptions() {
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, operation.defaultWeight());
+        }
+    }
+
+    static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "users" -> options.users = Integer.parseInt(value);
+                case "duration" -> options.duration = parseDuration(value);
+                case "warmup" -> options.warmup = parseDuration(value);
+                case "posts" -> options.posts = Integer.parseInt(value);
+                case "comments" -> options.commentsPerPost = Integer.parseInt(value);
+                case "mix" -> options.parseMix(value);
+                default -> options.applicationProperties.put(key, value);
+            }
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        mix.replaceAll((operation, weight) -> 0);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":");
+            mix.put(Operation.fromLabel(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+    }
+
+    /** 30s, 2m, 500ms 형식 */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("시간은 30s, 2m, 500ms 형식이어야 합니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.wedding.board.load;
+
+import com.wedding.board.BoardApplication;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 내장 부하 생성기: 앱을 임의 포트로 띄우고 시드 데이터를 넣은 뒤, 가상 사용자들이 요청 비중(--mix)대로
+ * 목록/상세/댓글 작성·수정·삭제/로그인을 반복한다. 요청 종류별 처리량과 HdrHistogram 백분위를 출력하고
+ * build/reports/load/*.hgrm 에 분포를 남긴다.
+ * 실행: {@code gradlew loadTest -PloadArgs="--users=100 --duration=2m"} (옵션은 LoadOptions 참고)
+ * 플랫폼 스레드 풀과 가상 스레드 모드는 같은 인자에 --board.virtual-threads.enabled=false/true 만 바꿔 두 번 돌려 비교한다.
+ */
+public final class LoadTest {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        try (ConfigurableApplicationContext context = start(options)) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            long seedStart = System.nanoTime();
+            SeedData data = Seeder.seed(context, options);
+            System.out.printf("[load] seeded %d users, %d posts, ~%d comments in %d ms%n",
+                    data.users.size(), data.posts.size(), (long) data.posts.size() * options.commentsPerPost,
+                    (System.nanoTime() - seedStart) / 1_000_000);
+            System.out.printf("[load] %s, %s threads, %d users, warmup %ds, duration %ds, mix %s%n", baseUrl,
+                    context.getEnvironment().getProperty("board.virtual-threads.enabled", Boolean.class, false)
+                            ? "virtual" : "platform",
+                    options.users, options.warmup.toSeconds(), options.duration.toSeconds(), options.mix);
+
+            LatencyReport report = run(baseUrl, data, options);
+            report.print(System.out, options.duration);
+            report.write(REPORT_DIRECTORY);
+            System.out.println("[load] histograms: " + REPORT_DIRECTORY.toAbsolutePath());
+        }
+    }
+
+    /** application.yml 보다 우선하도록 명령행 인자로 넘긴다 */
+    private static ConfigurableApplicationContext start(LoadOptions options) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:load",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"));
+        options.applicationProperties.forEach((key, value) -> properties.add(key + "=" + value));
+        return new SpringApplicationBuilder(BoardApplication.class)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /** 닫힌 부하 모델: 가상 사용자마다 가상 스레드 하나가 응답을 받자마자 다음 요청을 보낸다 */
+    private static LatencyReport run(String baseUrl, SeedData data, LoadOptions options) throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        List<Operation> wheel = weightedWheel(options.mix);
+        long measureStart = System.nanoTime() + options.warmup.toNanos();
+        long deadline = measureStart + options.duration.toNanos();
+        AtomicLong failures = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users; i++) {
+                VirtualUser user = new VirtualUser(baseUrl, data.users.get(i), data.posts, i);
+                Random random = new Random(1_000L + i);
+                executor.submit(() -> {
+                    try {
+                        user.login();
+                        while (System.nanoTime() < deadline) {
+                            Operation operation = wheel.get(random.nextInt(wheel.size()));
+                            long start = System.nanoTime();
+                            boolean ok = user.perform(operation);
+                            if (start < measureStart) {
+                                continue;
+                            }
+                            if (ok) {
+                                report.record(operation, System.nanoTime() - start);
+                            } else {
+                                report.error(operation);
+                            }
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        System.err.println("[load] virtual user stopped: " + e);
+                    }
+                    return null;
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            System.err.printf("[load] %d virtual users stopped early%n", failures.get());
+        }
+        return report;
+    }
+
+    private static List<Operation> weightedWheel(Map<Operation, Integer> mix) {
+        List<Operation> wheel = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("--mix 에 비중이 1 이상인 요청이 하나는 있어야 합니다");
+        }
+        return wheel;
+    }
+}
@@ -0,0 +1,39 @@
+package com.wedding.board.load;
+
+/**
+ * 부하 시나리오의 요청 종류와 기본 비중 (--mix 로 바꿀 수 있다).
+ */
+enum Operation {
+
+    LIST("list", 40),
+    DETAIL("detail", 40),
+    COMMENT_CREATE("comment-create", 8),
+    COMMENT_UPDATE("comment-update", 4),
+    COMMENT_DELETE("comment-delete", 3),
+    LOGIN("login", 5);
+
+    private final String label;
+    private final int defaultWeight;
+
+    Operation(String label, int defaultWeight) {
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Operation fromLabel(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equals(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + label);
+    }
+}
@@ -0,0 +1,55 @@
+package com.wedding.board.load;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 시드 결과: 가상 사용자 계정과 각자 소유한 댓글, 게시글 목록.
+ */
+final class SeedData {
+
+    final List<SeedUser> users;
+    final List<SeedPost> posts;
+
+    SeedData(List<SeedUser> users, List<SeedPost> posts) {
+        this.users = users;
+        this.posts = posts;
+    }
+
+    static final class SeedUser {
+
+        final Long id;
+        final String username;
+        /** 수정/삭제 대상. 삭제하면 빠진다 */
+        final ConcurrentLinkedDeque<OwnComment> ownComments = new ConcurrentLinkedDeque<>();
+
+        SeedUser(Long id, String username) {
+            this.id = id;
+            this.username = username;
+        }
+    }
+
+    static final class SeedPost {
+
+        final String boardCode;
+        final Long id;
+
+        SeedPost(String boardCode, Long id) {
+            this.boardCode = boardCode;
+            this.id = id;
+        }
+    }
+
+    static final class OwnComment {
+
+        final String boardCode;
+        final Long postId;
+        final Long commentId;
+
+        OwnComment(String boardCode, Long postId, Long commentId) {
+            this.boardCode = boardCode;
+            this.postId = postId;
+            this.commentId = commentId;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.wedding.board.load;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 부하 테스트용 데이터: 가상 사용자 계정, 게시글(GENERAL/VENUE), 게시글마다 댓글과 답글.
+ * 시드 댓글은 작성자별로 나눠 두어 가상 사용자가 자기 댓글을 수정/삭제할 수 있게 한다.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "load-pass";
+    private static final int CHUNK = 1_000;
+
+    private Seeder() {
+    }
+
+    static SeedData seed(ConfigurableApplicationContext context, LoadOptions options) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostApplicationService postApplicationService = context.getBean(PostApplicationService.class);
+        CommentApplicationService commentApplicationService = context.getBean(CommentApplicationService.class);
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Random random = new Random(42);
+
+        List<SeedData.SeedUser> users = new ArrayList<>();
+        for (int i = 0; i < options.users; i++) {
+            User user = userRepository.save(User.create("load" + i, encoded));
+            users.add(new SeedData.SeedUser(user.getId(), user.getUsername()));
+        }
+
+        List<CreatePostCommand> postCommands = new ArrayList<>();
+        for (int i = 0; i < options.posts; i++) {
+            Long authorId = users.get(i % users.size()).id;
+            postCommands.add(i % 5 == 0
+                    ? new CreatePostCommand("VENUE", "예식장 " + i, "예식장 후기", authorId, "서울",
+                            50_000 + random.nextInt(50_000), 100 + random.nextInt(200), 1_000_000, 500_000)
+                    : new CreatePostCommand("GENERAL", "준비 " + i, "결혼 준비 이야기", authorId,
+                            null, null, null, null, null));
+        }
+        List<SeedData.SeedPost> posts = new ArrayList<>();
+        for (int from = 0; from < postCommands.size(); from += CHUNK) {
+            List<CreatePostCommand> chunk = postCommands.subList(from, Math.min(postCommands.size(), from + CHUNK));
+            List<Long> ids = postApplicationService.createPosts(chunk);
+            for (int i = 0; i < ids.size(); i++) {
+                posts.add(new SeedData.SeedPost(chunk.get(i).getBoardCode(), ids.get(i)));
+            }
+        }
+
+        // 최상위 댓글을 먼저 만들고, 그 id 를 부모로 답글을 만든다
+        int roots = (options.commentsPerPost + 1) / 2;
+        List<CreateCommentCommand> rootCommands = new ArrayList<>();
+        for (SeedData.SeedPost post : posts) {
+            for (int c = 0; c < roots; c++) {
+                rootCommands.add(new CreateCommentCommand("댓글 " + c, post.id,
+                        users.get(random.nextInt(users.size())).id, null));
+            }
+        }
+        Map<Long, String> boardCodes = posts.stream().collect(Collectors.toMap(post -> post.id, post -> post.boardCode));
+        List<Long> rootIds = createComments(commentApplicationService, rootCommands, users, boardCodes);
+        int repliesPerPost = options.commentsPerPost - roots;
+        List<CreateCommentCommand> replyCommands = new ArrayList<>();
+        for (int i = 0; i < rootIds.size(); i++) {
+            if (i % roots < repliesPerPost) {
+                replyCommands.add(new CreateCommentCommand("답글", rootCommands.get(i).getPostId(),
+                        users.get(random.nextInt(users.size())).id, rootIds.get(i)));
+            }
+        }
+        createComments(commentApplicationService, replyCommands, users, boardCodes);
+        return new SeedData(users, posts);
+    }
+
+    private static List<Long> createComments(CommentApplicationService service, List<CreateCommentCommand> commands,
+                                             List<SeedData.SeedUser> users, Map<Long, String> boardCodes) {
+        Map<Long, SeedData.SeedUser> usersById = users.stream()
+                .collect(Collectors.toMap(user -> user.id, Function.identity()));
+        List<Long> ids = new ArrayList<>();
+        for (int from = 0; from < commands.size(); from += CHUNK) {
+            List<CreateCommentCommand> chunk = commands.subList(from, Math.min(commands.size(), from + CHUNK));
+            List<Long> created = service.createComments(chunk);
+            for (int i = 0; i < created.size(); i++) {
+                CreateCommentCommand command = chunk.get(i);
+                usersById.get(command.getAuthorId()).ownComments
+                        .add(new SeedData.OwnComment(boardCodes.get(command.getPostId()), command.getPostId(),
+                                created.get(i)));
+                ids.add(created.get(i));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,186 @@
+package com.wedding.board.load;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시작 시간 측정: 모드마다 새 JVM으로 앱을 띄우고 프로세스 시작부터 첫 요청(게시글 목록) 200 응답까지의
+ * 시간(time-to-first-request)과 Spring 이 보고한 컨텍스트 시작 시간을 잰다.
+ * <pre>
+ * --runs=5                        모드별 반복 횟수 (중앙값 보고)
+ * --modes=default,fast,fast-cds   default: 기본 설정, fast: fast-startup 프로파일, fast-cds: fast + CDS 아카이브
+ * --budget-ms=0                   0보다 크면 마지막 모드의 중앙값이 이를 넘을 때 실패 (회귀 감지)
+ * </pre>
+ * 앱 클래스패스는 -Dstartup.classpath 로 받는다 (CDS 는 jar 만 아카이브하므로 앱 클래스도 jar 로 넘긴다).
+ * fast-cds 는 측정 전에 한 번 띄워 build/startup/app.jsa 를 만든다 (-XX:ArchiveClassesAtExit).
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.wedding.board.BoardApplication";
+    private static final String FIRST_REQUEST = "/boards/GENERAL/posts";
+    private static final Path WORK_DIRECTORY = Path.of("build", "startup");
+    private static final Path CDS_ARCHIVE = WORK_DIRECTORY.resolve("app.jsa");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private final String classpath;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark(String classpath) {
+        this.classpath = classpath;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        List<String> modes = List.of("default", "fast", "fast-cds");
+        long budgetMillis = 0;
+        for (String arg : args) {
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "runs" -> runs = Integer.parseInt(value);
+                case "modes" -> modes = Arrays.asList(value.split(","));
+                case "budget-ms" -> budgetMillis = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+        String classpath = System.getProperty("startup.classpath");
+        if (classpath == null) {
+            throw new IllegalArgumentException("-Dstartup.classpath 가 필요합니다 (gradlew startupBenchmark 로 실행)");
+        }
+        Files.createDirectories(WORK_DIRECTORY);
+
+        StartupBenchmark benchmark = new StartupBenchmark(classpath);
+        long lastMedian = 0;
+        System.out.printf("%-10s %6s %12s %12s %12s %14s%n", "mode", "runs", "ttfr p50 ms", "ttfr min ms", "ttfr max ms",
+                "context p50 ms");
+        for (String mode : modes) {
+            if (mode.endsWith("-cds")) {
+                benchmark.trainArchive(mode);
+            }
+            List<Long> firstRequest = new ArrayList<>();
+            List<Long> context = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                Measurement measurement = benchmark.measure(mode, run);
+                firstRequest.add(measurement.firstRequestMillis);
+                context.add(measurement.contextMillis);
+            }
+            lastMedian = median(firstRequest);
+            System.out.printf("%-10s %6d %12d %12d %12d %14d%n", mode, runs, lastMedian,
+                    firstRequest.stream().mapToLong(Long::longValue).min().orElse(0),
+                    firstRequest.stream().mapToLong(Long::longValue).max().orElse(0), median(context));
+        }
+        if (budgetMillis > 0 && lastMedian > budgetMillis) {
+            System.err.printf("[startup] %s 의 첫 요청까지 %d ms 로 예산 %d ms 를 넘었습니다%n",
+                    modes.get(modes.size() - 1), lastMedian, budgetMillis);
+            System.exit(1);
+        }
+    }
+
+    /** CDS 아카이브 학습 실행: 첫 요청까지 로드된 클래스를 종료 시점에 기록한다 */
+    private void trainArchive(String mode) throws Exception {
+        Files.deleteIfExists(CDS_ARCHIVE);
+        List<String> jvmOptions = List.of("-XX:ArchiveClassesAtExit=" + CDS_ARCHIVE);
+        run(baseMode(mode), jvmOptions, WORK_DIRECTORY.resolve(mode + "-train.log"));
+        if (!Files.exists(CDS_ARCHIVE)) {
+            throw new IllegalStateException("CDS 아카이브가 만들어지지 않았습니다: " + CDS_ARCHIVE);
+        }
+    }
+
+    /** CDS 모드는 -Xshare:on 으로 띄워 아카이브를 못 쓰면 조용히 느려지는 대신 시작에 실패하게 한다 */
+    private Measurement measure(String mode, int run) throws Exception {
+        List<String> jvmOptions = mode.endsWith("-cds")
+                ? List.of("-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xshare:on")
+                : List.of();
+        return run(baseMode(mode), jvmOptions, WORK_DIRECTORY.resolve(mode + "-" + run + ".log"));
+    }
+
+    private Measurement run(String mode, List<String> jvmOptions, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port));
+        if (mode.equals("fast")) {
+            command.add("--spring.profiles.active=fast-startup");
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long firstRequest = awaitFirstRequest(process, port, start);
+            return new Measurement(firstRequest, contextMillis(log));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private long awaitFirstRequest(Process process, int port, long start) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST))
+                .timeout(Duration.ofSeconds(30)).build();
+        long deadline = start + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("앱이 시작 중에 종료되었습니다 (exit " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 열리지 않았다
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("앱이 " + START_TIMEOUT.toSeconds() + "초 안에 응답하지 않았습니다");
+    }
+
+    private static long contextMillis(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Math.round(Double.parseDouble(matcher.group(1)) * 1000) : -1;
+    }
+
+    private static String baseMode(String mode) {
+        return mode.endsWith("-cds") ? mode.substring(0, mode.length() - "-cds".length()) : mode;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static final class Measurement {
+
+        private final long firstRequestMillis;
+        private final long contextMillis;
+
+        private Measurement(long firstRequestMillis, long contextMillis) {
+            this.firstRequestMillis = firstRequestMillis;
+            this.contextMillis = contextMillis;
+        }
+    }
+}
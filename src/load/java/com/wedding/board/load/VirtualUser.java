@@ -0,0 +1,146 @@
+package com.wedding.board.load;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 브라우저 한 개에 해당하는 가상 사용자. 자기 쿠키(세션)와 CSRF 토큰을 가지고 요청한다.
+ * login 은 로그인 화면 + POST /login + 이동한 목록 화면까지를 한 번으로 센다.
+ */
+final class VirtualUser {
+
+    private static final Pattern CSRF_META = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final String CSRF_HEADER = "X-CSRF-TOKEN";
+
+    private final String baseUrl;
+    private final SeedData.SeedUser account;
+    private final List<SeedData.SeedPost> posts;
+    private final Random random;
+    private HttpClient client;
+    private String csrfToken;
+
+    VirtualUser(String baseUrl, SeedData.SeedUser account, List<SeedData.SeedPost> posts, long seed) {
+        this.baseUrl = baseUrl;
+        this.account = account;
+        this.posts = posts;
+        this.random = new Random(seed);
+    }
+
+    /** 요청이 기대한 상태 코드로 끝나면 true */
+    boolean perform(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LIST -> list();
+            case DETAIL -> detail();
+            case COMMENT_CREATE -> createComment();
+            case COMMENT_UPDATE -> updateComment();
+            case COMMENT_DELETE -> deleteComment();
+            case LOGIN -> login();
+        };
+    }
+
+    boolean login() throws IOException, InterruptedException {
+        client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpResponse<String> loginPage = send(get("/login"));
+        Matcher matcher = CSRF_INPUT.matcher(loginPage.body());
+        if (!matcher.find()) {
+            return false;
+        }
+        HttpResponse<String> response = send(form("/login",
+                "username=" + encode(account.username) + "&password=" + encode(Seeder.PASSWORD)
+                        + "&_csrf=" + encode(matcher.group(1))));
+        String location = response.headers().firstValue("Location").orElse("");
+        return response.statusCode() == 302 && !location.contains("error") && list();
+    }
+
+    private boolean list() throws IOException, InterruptedException {
+        String boardCode = random.nextInt(5) == 0 ? "VENUE" : "GENERAL";
+        return send(get("/boards/" + boardCode + "/posts")).statusCode() == 200;
+    }
+
+    private boolean detail() throws IOException, InterruptedException {
+        SeedData.SeedPost post = randomPost();
+        return send(get("/boards/" + post.boardCode + "/posts/" + post.id)).statusCode() == 200;
+    }
+
+    private boolean createComment() throws IOException, InterruptedException {
+        SeedData.SeedPost post = randomPost();
+        HttpResponse<String> response = send(form("/boards/" + post.boardCode + "/posts/" + post.id + "/comments",
+                "content=" + encode("부하 댓글 " + random.nextInt(1_000_000)) + "&_csrf=" + encode(csrfToken)));
+        return response.statusCode() == 302;
+    }
+
+    private boolean updateComment() throws IOException, InterruptedException {
+        SeedData.OwnComment comment = account.ownComments.peekFirst();
+        if (comment == null) {
+            return createComment();
+        }
+        HttpRequest request = request(commentPath(comment))
+                .header("Content-Type", "application/json")
+                .header(CSRF_HEADER, csrfToken)
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"content\":\"수정 " + random.nextInt(1_000_000) + "\"}"))
+                .build();
+        return send(request).statusCode() == 200;
+    }
+
+    private boolean deleteComment() throws IOException, InterruptedException {
+        SeedData.OwnComment comment = account.ownComments.pollLast();
+        if (comment == null) {
+            return createComment();
+        }
+        HttpRequest request = request(commentPath(comment)).header(CSRF_HEADER, csrfToken).DELETE().build();
+        return send(request).statusCode() == 200;
+    }
+
+    private String commentPath(SeedData.OwnComment comment) {
+        return "/boards/" + comment.boardCode + "/posts/" + comment.postId + "/comments/" + comment.commentId;
+    }
+
+    private SeedData.SeedPost randomPost() {
+        return posts.get(random.nextInt(posts.size()));
+    }
+
+    /** HTML 응답이면 레이아웃의 CSRF 토큰을 갱신한다 (로그인 시 토큰이 바뀐다) */
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_META.matcher(response.body());
+        if (matcher.find()) {
+            csrfToken = matcher.group(1);
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest form(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
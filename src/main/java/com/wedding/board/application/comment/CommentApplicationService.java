@@ -1,49 +1,106 @@
 package com.wedding.board.application.comment;
 
+import com.wedding.board.application.post.PostChangedEvent;
 import com.wedding.board.domain.comment.Comment;
 import com.wedding.board.domain.comment.CommentRepository;
+import com.wedding.board.domain.comment.ReplyCount;
 import com.wedding.board.domain.post.Post;
 import com.wedding.board.domain.post.PostRepository;
 import com.wedding.board.domain.user.User;
 import com.wedding.board.domain.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class CommentApplicationService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Comment> getCommentsByPostId(Long postId) {
-        List<Comment> all = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
-        Map<Long, List<Comment>> childrenMap = new HashMap<>();
-        for (Comment c : all) {
-            if (c.getParent() != null) {
-                childrenMap.computeIfAbsent(c.getParent().getId(), k -> new ArrayList<>()).add(c);
+        return assembleTree(commentRepository.findThreadByPostId(postId));
+    }
+
+    /**
+     * path 순(DFS 전위)으로 정렬된 스레드를 재정렬 없이 한 번 훑어 트리로 조립한다.
+     * 스택에는 현재 댓글의 조상이 깊이 순으로 쌓여 있다.
+     */
+    private List<Comment> assembleTree(List<Comment> thread) {
+        List<Comment> roots = new ArrayList<>();
+        Deque<Comment> ancestors = new ArrayDeque<>();
+        for (Comment comment : thread) {
+            while (ancestors.size() > comment.getDepth()) {
+                ancestors.pop();
+            }
+            comment.getReplies().clear();
+            if (ancestors.isEmpty()) {
+                roots.add(comment);
+            } else {
+                ancestors.peek().getReplies().add(comment);
             }
+            ancestors.push(comment);
         }
-        childrenMap.values().forEach(list -> list.sort(Comparator.comparing(Comment::getCreatedAt)));
-        List<Comment> roots = all.stream()
-                .filter(c -> c.getParent() == null)
-                .sorted(Comparator.comparing(Comment::getCreatedAt))
-                .collect(Collectors.toList());
-        roots.forEach(root -> populateReplies(root, childrenMap));
         return roots;
     }
 
-    private void populateReplies(Comment comment, Map<Long, List<Comment>> childrenMap) {
-        List<Comment> replies = childrenMap.getOrDefault(comment.getId(), Collections.emptyList());
-        comment.getReplies().clear();
-        comment.getReplies().addAll(replies);
-        replies.forEach(reply -> populateReplies(reply, childrenMap));
+    /**
+     * 긴 스레드용: 최상위 댓글만 path 순으로 한 페이지 조회하고, 각 루트의 답글 수를 한 번의 집계로 붙인다.
+     * 답글 자체는 getReplies 로 필요할 때 읽는다.
+     */
+    public CommentPage getRootComments(Long postId, String after, int size) {
+        String afterPath = after == null ? "" : CommentCursor.decode(after);
+        Slice<Comment> slice = commentRepository.findRootPage(postId, afterPath, PageRequest.of(0, size));
+        List<Comment> roots = slice.getContent();
+        if (roots.isEmpty()) {
+            return CommentPage.roots(roots, Map.of(), null);
+        }
+        Comment first = roots.get(0);
+        Comment last = roots.get(roots.size() - 1);
+        Map<Long, Long> replyCounts = commentRepository
+                .countRepliesByRoot(postId, first.getPath(), last.subtreeEndPath()).stream()
+                .collect(Collectors.toMap(ReplyCount::getRootId, ReplyCount::getCount));
+        return CommentPage.roots(roots, replyCounts, slice.hasNext() ? CommentCursor.encode(last.getPath()) : null);
+    }
+
+    /** 한 댓글의 하위 스레드를 DFS 전위 순서로 한 페이지 조회한다 */
+    public CommentPage getReplies(Long postId, Long commentId, String after, int size) {
+        Comment parent = getComment(commentId);
+        if (!parent.getPost().getId().equals(postId)) {
+            throw new IllegalArgumentException("대상 댓글이 해당 게시글에 속하지 않습니다");
+        }
+        String afterPath = parent.subtreeStartPath();
+        if (after != null) {
+            String cursor = CommentCursor.decode(after);
+            if (cursor.compareTo(afterPath) > 0) {
+                afterPath = cursor;
+            }
+        }
+        Slice<Comment> slice = commentRepository.findSubtreePage(
+                postId, afterPath, parent.subtreeEndPath(), PageRequest.of(0, size));
+        List<Comment> replies = slice.getContent();
+        String next = slice.hasNext() ? CommentCursor.encode(replies.get(replies.size() - 1).getPath()) : null;
+        return CommentPage.replies(replies, parent.getDepth() + 1, next);
     }
 
     public Comment getComment(Long commentId) {
@@ -51,52 +108,131 @@ public class CommentApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
     }
 
+    /**
+     * 게시글/작성자는 조회하지 않고 참조 프록시로 연결한다. 게시글 존재 확인은 댓글 수 UPDATE의 반영 건수로 대신해
+     * 최상위 댓글은 UPDATE와 INSERT 두 문장, 답글은 부모 조회를 더해 세 문장으로 끝난다.
+     * 작성자 id는 로그인 세션에서 오므로 따로 확인하지 않는다 (없으면 FK 제약이 막는다).
+     */
     @Transactional
-    public Long createComment(CreateCommentCommand command) {
-        Post post = postRepository.findById(command.getPostId())
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + command.getPostId()));
-        User author = userRepository.findById(command.getAuthorId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        Comment comment;
-        if (command.getParentId() != null) {
-            Comment parent = getComment(command.getParentId());
-            if (!parent.getPost().getId().equals(post.getId())) {
-                throw new IllegalArgumentException("대상 댓글이 해당 게시글에 속하지 않습니다");
+    public Long createComment(String boardCode, CreateCommentCommand command) {
+        Post post = postRepository.getReferenceById(command.getPostId());
+        User author = userRepository.getReferenceById(command.getAuthorId());
+        Comment parent = command.getParentId() == null ? null : getComment(command.getParentId());
+        Comment comment = newComment(command, post, author, parent);
+        if (postRepository.adjustCommentCount(command.getPostId(), boardCode, 1, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + command.getPostId());
+        }
+
+        // 시퀀스 id는 persist 시점에 정해지므로 path까지 INSERT 한 번에 기록된다
+        Comment saved = commentRepository.save(comment);
+        saved.materializePath();
+        eventPublisher.publishEvent(PostChangedEvent.comments(boardCode, command.getPostId(), 1));
+        eventPublisher.publishEvent(CommentsChangedEvent.of(command.getPostId()));
+        return saved.getId();
+    }
+
+    /**
+     * 여러 댓글을 한 트랜잭션에서 생성한다. 부모는 이미 저장된 댓글이어야 한다.
+     * 게시글/작성자/부모는 한 번씩만 조회하고, INSERT는 JDBC batch로, 댓글 수는 게시글당 한 번만 갱신한다.
+     */
+    @Transactional
+    public List<Long> createComments(List<CreateCommentCommand> commands) {
+        Map<Long, Post> posts = postRepository.findAllById(
+                        commands.stream().map(CreateCommentCommand::getPostId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, User> authors = userRepository.findAllById(
+                        commands.stream().map(CreateCommentCommand::getAuthorId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Comment> parents = commentRepository.findAllById(
+                        commands.stream().map(CreateCommentCommand::getParentId)
+                                .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<Comment> comments = new ArrayList<>(commands.size());
+        for (CreateCommentCommand command : commands) {
+            Post post = posts.get(command.getPostId());
+            if (post == null) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + command.getPostId());
             }
-            if (parent.isDeleted()) {
-                throw new IllegalArgumentException("삭제된 댓글에는 답글을 작성할 수 없습니다");
+            User author = authors.get(command.getAuthorId());
+            if (author == null) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
             }
-            comment = Comment.createReply(command.getContent(), post, author, parent);
-        } else {
-            comment = Comment.create(command.getContent(), post, author);
+            Comment parent = null;
+            if (command.getParentId() != null) {
+                parent = parents.get(command.getParentId());
+                if (parent == null) {
+                    throw new IllegalArgumentException("댓글을 찾을 수 없습니다: " + command.getParentId());
+                }
+            }
+            comments.add(newComment(command, post, author, parent));
         }
-        return commentRepository.save(comment).getId();
+
+        List<Long> ids = new ArrayList<>(comments.size());
+        Map<Post, Integer> added = new LinkedHashMap<>();
+        for (Comment saved : commentRepository.saveAll(comments)) {
+            saved.materializePath();
+            ids.add(saved.getId());
+            added.merge(saved.getPost(), 1, Integer::sum);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        added.forEach((post, count) -> {
+            postRepository.adjustCommentCount(post.getId(), post.getBoardCode(), count, now);
+            eventPublisher.publishEvent(PostChangedEvent.comments(post.getBoardCode(), post.getId(), count));
+            eventPublisher.publishEvent(CommentsChangedEvent.of(post.getId()));
+        });
+        return ids;
     }
 
-    @Transactional
-    public void updateComment(Long commentId, UpdateCommentCommand command, Long userId) {
-        Comment comment = getComment(commentId);
-        if (comment.isDeleted()) {
-            throw new IllegalArgumentException("삭제된 댓글은 수정할 수 없습니다");
+    private Comment newComment(CreateCommentCommand command, Post post, User author, Comment parent) {
+        if (parent == null) {
+            return Comment.create(command.getContent(), post, author);
         }
-        if (!comment.isWrittenBy(userId)) {
-            throw new IllegalArgumentException("본인의 댓글만 수정할 수 있습니다");
+        if (!parent.getPost().getId().equals(post.getId())) {
+            throw new IllegalArgumentException("대상 댓글이 해당 게시글에 속하지 않습니다");
+        }
+        if (parent.isDeleted()) {
+            throw new IllegalArgumentException("삭제된 댓글에는 답글을 작성할 수 없습니다");
+        }
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new IllegalArgumentException("답글은 " + Comment.MAX_DEPTH + "단계까지만 작성할 수 있습니다");
+        }
+        return Comment.createReply(command.getContent(), post, author, parent);
+    }
+
+    /** 본인 확인과 삭제 여부를 조건에 넣은 UPDATE 한 번과 게시글 변경 시각 UPDATE 한 번으로 수정한다 */
+    @Transactional
+    public void updateComment(Long postId, Long commentId, UpdateCommentCommand command, Long userId) {
+        if (commentRepository.updateContentByAuthor(commentId, postId, userId, command.getContent()) == 0) {
+            throw rejection(postId, commentId, "삭제된 댓글은 수정할 수 없습니다", "본인의 댓글만 수정할 수 있습니다");
         }
-        comment.update(command.getContent());
-        commentRepository.save(comment);
+        // 목록에는 댓글 수만 보이므로 PostChangedEvent 없이 상세 화면 버전만 올린다
+        postRepository.markCommentsUpdated(postId, LocalDateTime.now());
+        eventPublisher.publishEvent(CommentsChangedEvent.of(postId));
     }
 
+    /** 조건부 삭제 표시 UPDATE와 댓글 수 감소 UPDATE 두 문장으로 삭제한다 */
     @Transactional
-    public void deleteComment(Long commentId, Long userId) {
+    public void deleteComment(String boardCode, Long postId, Long commentId, Long userId) {
+        if (commentRepository.markDeletedByAuthor(commentId, postId, userId) == 0) {
+            throw rejection(postId, commentId, "이미 삭제된 댓글입니다", "본인의 댓글만 삭제할 수 있습니다");
+        }
+        if (postRepository.adjustCommentCount(postId, boardCode, -1, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId);
+        }
+        eventPublisher.publishEvent(PostChangedEvent.comments(boardCode, postId, -1));
+        eventPublisher.publishEvent(CommentsChangedEvent.of(postId));
+    }
+
+    /** 조건부 UPDATE가 0건일 때만 댓글을 읽어 거절 사유를 고른다. 성공 경로에서는 조회하지 않는다 */
+    private IllegalArgumentException rejection(Long postId, Long commentId, String deletedMessage, String notOwnerMessage) {
         Comment comment = getComment(commentId);
-        if (comment.isDeleted()) {
-            throw new IllegalArgumentException("이미 삭제된 댓글입니다");
+        if (!comment.getPost().getId().equals(postId)) {
+            return new IllegalArgumentException("대상 댓글이 해당 게시글에 속하지 않습니다");
         }
-        if (!comment.isWrittenBy(userId)) {
-            throw new IllegalArgumentException("본인의 댓글만 삭제할 수 있습니다");
+        if (comment.isDeleted()) {
+            return new IllegalArgumentException(deletedMessage);
         }
-        comment.markAsDeleted();
-        commentRepository.save(comment);
+        return new IllegalArgumentException(notOwnerMessage);
     }
 }
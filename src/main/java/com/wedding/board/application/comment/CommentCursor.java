@@ -0,0 +1,32 @@
+package com.wedding.board.application.comment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 댓글 페이지 keyset 커서. 마지막으로 보여준 댓글의 path를 불투명한 문자열로 노출한다.
+ */
+final class CommentCursor {
+
+    private static final Pattern PATH = Pattern.compile("[0-9]+(\\.[0-9]+)*");
+
+    private CommentCursor() {
+    }
+
+    static String encode(String path) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decode(String token) {
+        try {
+            String path = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (PATH.matcher(path).matches()) {
+                return path;
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 같은 메시지로 던진다
+        }
+        throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wedding.board.application.comment;
+
+import com.wedding.board.domain.comment.Comment;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 댓글 keyset 페이지. 최상위 댓글 페이지는 루트별 답글 수를 함께 가진다.
+ * baseDepth는 이 페이지에서 가장 얕은 댓글의 깊이(들여쓰기 기준)다.
+ */
+@Getter
+public class CommentPage {
+
+    private final List<Comment> content;
+    private final Map<Long, Long> replyCounts;
+    private final int baseDepth;
+    private final String nextCursor;
+
+    private CommentPage(List<Comment> content, Map<Long, Long> replyCounts, int baseDepth, String nextCursor) {
+        this.content = List.copyOf(content);
+        this.replyCounts = Map.copyOf(replyCounts);
+        this.baseDepth = baseDepth;
+        this.nextCursor = nextCursor;
+    }
+
+    public static CommentPage roots(List<Comment> content, Map<Long, Long> replyCounts, String nextCursor) {
+        return new CommentPage(content, replyCounts, 0, nextCursor);
+    }
+
+    public static CommentPage replies(List<Comment> content, int baseDepth, String nextCursor) {
+        return new CommentPage(content, Map.of(), baseDepth, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wedding.board.application.comment;
+
+import lombok.Getter;
+
+/**
+ * 게시글의 댓글 스레드 내용이 바뀌었음을 알린다 (작성/수정/삭제).
+ * 렌더링된 댓글 트리 캐시처럼 댓글 본문에 의존하는 파생 데이터는 커밋 이후 이 이벤트로 비운다.
+ */
+@Getter
+public class CommentsChangedEvent {
+
+    private final Long postId;
+
+    private CommentsChangedEvent(Long postId) {
+        this.postId = postId;
+    }
+
+    public static CommentsChangedEvent of(Long postId) {
+        return new CommentsChangedEvent(postId);
+    }
+}
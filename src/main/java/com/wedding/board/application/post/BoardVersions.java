@@ -0,0 +1,39 @@
+package com.wedding.board.application.post;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판별 마지막 쓰기 버전. 목록 화면의 weak ETag 로 쓴다.
+ * 프로세스 시작 시각을 접두어로 붙여 재시작 후 이전 버전과 겹치지 않게 한다.
+ */
+@Component
+public class BoardVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public String current(String boardCode) {
+        AtomicLong version = versions.get(boardCode);
+        return epoch + "." + (version == null ? 0 : version.get());
+    }
+
+    /**
+     * 목록 캐시/비용 통계(@Order(0))가 반영된 뒤에 올린다.
+     * 먼저 올리면 새 버전으로 이전 목록이 응답되어 다음 쓰기까지 304가 날 수 있다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        increment(event.getBoardCode());
+    }
+
+    private void increment(String boardCode) {
+        versions.computeIfAbsent(boardCode, code -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,25 @@
+package com.wedding.board.application.post;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * "지금 인기" 목록의 한 줄. 순위 계산용 점수는 HotPostRanking 안에만 둔다.
+ * 보이는 순위가 바뀌었는지 비교할 수 있게 id/제목으로 같음을 정한다.
+ */
+@Getter
+@EqualsAndHashCode
+public class HotPost {
+
+    private final Long id;
+    private final String title;
+
+    private HotPost(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public static HotPost of(Long id, String title) {
+        return new HotPost(id, title);
+    }
+}
@@ -0,0 +1,265 @@
+package com.wedding.board.application.post;
+
+import com.wedding.board.datasource.ReplicaRoutingDataSource;
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.board.BoardRepository;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.PostSummary;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판별 "지금 인기" 글 순위.
+ * 작성/댓글/조회마다 가중치를 더하고 반감기(half-life)로 감쇠한 점수로 순위를 매긴다.
+ * 점수는 고정 기준 시각에 대한 forward decay(log 공간에서 ln 가중치 + 경과시간/τ 의 합)로 저장해,
+ * 시간이 흘러도 다른 글의 점수를 다시 계산하지 않고 바뀐 글 하나만 제자리로 옮긴다.
+ * 게시판마다 점수 상위 candidates 개만 들고 있고(가장 낮은 글부터 밀려난다) 그중 앞의 size 개를 보여준다.
+ */
+@Component
+public class HotPostRanking {
+
+    static final double CREATED_WEIGHT = 10;
+    static final double COMMENT_WEIGHT = 3;
+    static final double VIEW_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+    private final BoardRepository boardRepository;
+    private final int size;
+    private final int candidates;
+    /** 감쇠 시간 상수 τ (초). 점수는 τ 마다 e 배씩 줄어든다 */
+    private final double tau;
+
+    private final Map<String, BoardRanking> rankings = new ConcurrentHashMap<>();
+    /** 게시판 순위 버전의 출처. 하나의 순번을 나눠 써서 rebuild 뒤에도 이전 버전과 겹치지 않는다 */
+    private final AtomicLong versions = new AtomicLong();
+
+    public HotPostRanking(PostRepository postRepository, BoardRepository boardRepository,
+                          @Value("${board.hot-posts.size:5}") int size,
+                          @Value("${board.hot-posts.candidates:100}") int candidates,
+                          @Value("${board.hot-posts.half-life:6h}") Duration halfLife) {
+        this.postRepository = postRepository;
+        this.boardRepository = boardRepository;
+        this.size = size;
+        this.candidates = Math.max(size, candidates);
+        this.tau = halfLife.getSeconds() / Math.log(2);
+    }
+
+    /** 변경 시점에 만들어 둔 스냅샷을 그대로 반환한다 (SQL 없음) */
+    public List<HotPost> top(String boardCode) {
+        BoardRanking ranking = rankings.get(boardCode);
+        return ranking == null ? List.of() : ranking.top;
+    }
+
+    /** 보이는 순위가 바뀔 때마다 오르는 버전. 목록 화면 ETag 에 섞는다 */
+    public long version(String boardCode) {
+        BoardRanking ranking = rankings.get(boardCode);
+        return ranking == null ? 0 : ranking.version;
+    }
+
+    /**
+     * 게시판마다 최신 글 candidates 개로 다시 채운다.
+     * 이때 댓글/조회는 언제 일어났는지 모르므로 글 작성 시각에 일어난 것으로 본다.
+     * 순위는 다음 활동까지 남으므로 primary 에서 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rankings.clear();
+        for (Board board : ReplicaRoutingDataSource.onPrimary(boardRepository::findAll)) {
+            BoardRanking ranking = ranking(board.getCode());
+            Slice<PostSummary> latest = ReplicaRoutingDataSource.onPrimary(
+                    () -> postRepository.findSliceByBoardCode(board.getCode(), PageRequest.of(0, candidates)));
+            for (PostSummary post : latest) {
+                double weight = CREATED_WEIGHT + COMMENT_WEIGHT * post.getCommentCount() + VIEW_WEIGHT * post.getViewCount();
+                ranking.add(post.getId(), post.getTitle(), weight, post.getCreatedAt());
+            }
+        }
+    }
+
+    @Order(0)  // BoardVersions 보다 먼저 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getChange()) {
+            case CREATED:
+                postRepository.findById(event.getPostId()).ifPresent(post ->
+                        ranking(event.getBoardCode()).add(post.getId(), post.getTitle(), CREATED_WEIGHT, post.getCreatedAt()));
+                break;
+            case UPDATED:
+                if (ranking(event.getBoardCode()).contains(event.getPostId())) {
+                    postRepository.findById(event.getPostId()).ifPresent(post ->
+                            ranking(event.getBoardCode()).rename(post.getId(), post.getTitle()));
+                }
+                break;
+            case DELETED:
+                ranking(event.getBoardCode()).remove(event.getPostId());
+                break;
+            case COMMENTS:
+                // 삭제된 댓글은 이미 지나간 관심이므로 점수를 빼지 않는다
+                if (event.getCommentDelta() > 0) {
+                    addActivity(event.getBoardCode(), event.getPostId(), COMMENT_WEIGHT * event.getCommentDelta());
+                }
+                break;
+        }
+    }
+
+    /** 조회는 PostViewCounter 가 반영한 주기마다 모아서 더한다. 순위 밖의 글은 한 번의 조회로 제목을 채운다 */
+    @Order(0)  // BoardVersions 보다 먼저 반영
+    @EventListener
+    public void onPostsViewed(PostsViewedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> unknown = new HashSet<>();
+        event.getViews().forEach((postId, views) -> {
+            BoardRanking ranking = rankingOf(postId);
+            if (ranking == null || !ranking.addIfPresent(postId, VIEW_WEIGHT * views, now)) {
+                unknown.add(postId);
+            }
+        });
+        if (unknown.isEmpty()) {
+            return;
+        }
+        // 방금 반영한 조회수와 함께 순위에 남으므로 primary 에서 읽는다
+        for (PostSummary post : ReplicaRoutingDataSource.onPrimary(() -> postRepository.findSummariesByIdIn(unknown))) {
+            ranking(post.getBoardCode()).add(post.getId(), post.getTitle(),
+                    VIEW_WEIGHT * event.getViews().get(post.getId()), now);
+        }
+    }
+
+    private void addActivity(String boardCode, Long postId, double weight) {
+        LocalDateTime now = LocalDateTime.now();
+        BoardRanking ranking = ranking(boardCode);
+        if (!ranking.addIfPresent(postId, weight, now)) {
+            postRepository.findById(postId).map(Post::getTitle)
+                    .ifPresent(title -> ranking.add(postId, title, weight, now));
+        }
+    }
+
+    private BoardRanking ranking(String boardCode) {
+        return rankings.computeIfAbsent(boardCode, code -> new BoardRanking());
+    }
+
+    private BoardRanking rankingOf(Long postId) {
+        for (BoardRanking ranking : rankings.values()) {
+            if (ranking.contains(postId)) {
+                return ranking;
+            }
+        }
+        return null;
+    }
+
+    /** 감쇠를 기준 시각(1970-01-01) 쪽으로 옮긴 log 점수: ln(weight) + t/τ */
+    private double logScore(double weight, LocalDateTime at) {
+        return Math.log(weight) + at.toEpochSecond(ZoneOffset.UTC) / tau;
+    }
+
+    /** ln(e^a + e^b) 를 넘치지 않게 계산한다 */
+    private static double logSum(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    /** 한 게시판의 후보 글: id 로 찾는 맵과 점수 내림차순 정렬 집합을 함께 유지한다 */
+    private final class BoardRanking {
+
+        private final Map<Long, Candidate> byId = new HashMap<>();
+        private final TreeSet<Candidate> byScore = new TreeSet<>(
+                Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed()
+                        .thenComparing(candidate -> candidate.postId, Comparator.reverseOrder()));
+        private volatile List<HotPost> top = List.of();
+        private volatile long version;
+
+        synchronized boolean contains(Long postId) {
+            return byId.containsKey(postId);
+        }
+
+        synchronized void add(Long postId, String title, double weight, LocalDateTime at) {
+            Candidate candidate = byId.get(postId);
+            if (candidate == null) {
+                candidate = new Candidate(postId, title);
+                byId.put(postId, candidate);
+            } else {
+                byScore.remove(candidate);
+            }
+            candidate.score = logSum(candidate.score, logScore(weight, at));
+            byScore.add(candidate);
+            if (byScore.size() > candidates) {
+                byId.remove(byScore.pollLast().postId);
+            }
+            publish();
+        }
+
+        synchronized boolean addIfPresent(Long postId, double weight, LocalDateTime at) {
+            Candidate candidate = byId.get(postId);
+            if (candidate == null) {
+                return false;
+            }
+            add(postId, candidate.title, weight, at);
+            return true;
+        }
+
+        synchronized void rename(Long postId, String title) {
+            Candidate candidate = byId.get(postId);
+            if (candidate != null && !candidate.title.equals(title)) {
+                candidate.title = title;
+                publish();
+            }
+        }
+
+        synchronized void remove(Long postId) {
+            Candidate candidate = byId.remove(postId);
+            if (candidate != null) {
+                byScore.remove(candidate);
+                publish();
+            }
+        }
+
+        /** 보이는 상위 size 개(id/제목)가 바뀐 경우에만 스냅샷을 바꾸고 버전을 올린다 */
+        private void publish() {
+            List<HotPost> snapshot = new ArrayList<>(size);
+            Iterator<Candidate> iterator = byScore.iterator();
+            while (snapshot.size() < size && iterator.hasNext()) {
+                Candidate candidate = iterator.next();
+                snapshot.add(HotPost.of(candidate.postId, candidate.title));
+            }
+            if (snapshot.equals(top)) {
+                return;
+            }
+            top = List.copyOf(snapshot);
+            version = versions.incrementAndGet();
+        }
+    }
+
+    private static final class Candidate {
+
+        private final Long postId;
+        private String title;
+        private double score = Double.NEGATIVE_INFINITY;
+
+        private Candidate(Long postId, String title) {
+            this.postId = postId;
+            this.title = title;
+        }
+    }
+}
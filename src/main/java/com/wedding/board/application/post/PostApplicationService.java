@@ -1,30 +1,73 @@
 package com.wedding.board.application.post;
 
+import com.wedding.board.application.post.PostChangedEvent.Change;
+import com.wedding.board.datasource.ReplicaRoutingDataSource;
 import com.wedding.board.domain.board.Board;
 import com.wedding.board.domain.board.BoardRepository;
 import com.wedding.board.domain.comment.CommentRepository;
 import com.wedding.board.domain.post.Post;
 import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.PostSummary;
+import com.wedding.board.domain.post.VenueCost;
 import com.wedding.board.domain.user.User;
 import com.wedding.board.domain.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class PostApplicationService {
 
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final PostListCache postListCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Page<Post> getPosts(String boardCode, Pageable pageable) {
-        return postRepository.findByBoardCodeIncludingLegacy(boardCode, pageable);
+    /**
+     * 커서 기반 목록 조회. after/before 중 하나만 사용하며 둘 다 없으면 첫 페이지.
+     * 깊은 페이지도 offset 스캔과 count 쿼리 없이 동일한 비용으로 조회된다.
+     * 결과는 게시판별 목록 캐시를 거친다. 캐시는 다음 쓰기까지 남으므로 복제본이 아닌 primary 에서 채운다.
+     */
+    public PostSlice getPosts(String boardCode, String after, String before, int size) {
+        return postListCache.get(boardCode, after, before, size,
+                () -> ReplicaRoutingDataSource.onPrimary(() -> loadPosts(boardCode, after, before, size)));
+    }
+
+    private PostSlice loadPosts(String boardCode, String after, String before, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        if (before != null) {
+            PostCursor cursor = PostCursor.decode(before);
+            Slice<PostSummary> slice = postRepository.findNewerSliceByBoardCode(
+                    boardCode, cursor.getCreatedAt(), cursor.getId(), limit);
+            List<PostSummary> content = new ArrayList<>(slice.getContent());
+            Collections.reverse(content);
+            return PostSlice.of(content, slice.hasNext(), true);
+        }
+        if (after != null) {
+            PostCursor cursor = PostCursor.decode(after);
+            Slice<PostSummary> slice = postRepository.findOlderSliceByBoardCode(
+                    boardCode, cursor.getCreatedAt(), cursor.getId(), limit);
+            return PostSlice.of(slice.getContent(), true, slice.hasNext());
+        }
+        Slice<PostSummary> slice = postRepository.findSliceByBoardCode(boardCode, limit);
+        return PostSlice.of(slice.getContent(), false, slice.hasNext());
     }
 
     public Post getPost(Long id) {
@@ -38,25 +81,80 @@ public class PostApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다: " + command.getBoardCode()));
         User author = userRepository.findById(command.getAuthorId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        Post post = Post.create(board, command.getTitle(), command.getContent(), author,
+        Long postId = postRepository.save(newPost(board, author, command)).getId();
+        eventPublisher.publishEvent(PostChangedEvent.of(board.getCode(), postId, Change.CREATED));
+        return postId;
+    }
+
+    /**
+     * 여러 글을 한 트랜잭션에서 생성한다.
+     * 게시판/작성자는 한 번씩만 조회하고, INSERT는 pooled 시퀀스 id 덕분에 JDBC batch로 묶인다.
+     */
+    @Transactional
+    public List<Long> createPosts(List<CreatePostCommand> commands) {
+        Map<String, Board> boards = boardRepository.findAllById(
+                        commands.stream().map(CreatePostCommand::getBoardCode).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Board::getCode, Function.identity()));
+        Map<Long, User> authors = userRepository.findAllById(
+                        commands.stream().map(CreatePostCommand::getAuthorId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Post> posts = new ArrayList<>(commands.size());
+        for (CreatePostCommand command : commands) {
+            Board board = boards.get(command.getBoardCode());
+            if (board == null) {
+                throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + command.getBoardCode());
+            }
+            User author = authors.get(command.getAuthorId());
+            if (author == null) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+            }
+            posts.add(newPost(board, author, command));
+        }
+
+        List<Long> ids = new ArrayList<>(posts.size());
+        for (Post post : postRepository.saveAll(posts)) {
+            ids.add(post.getId());
+            eventPublisher.publishEvent(PostChangedEvent.of(post.getBoard().getCode(), post.getId(), Change.CREATED));
+        }
+        return ids;
+    }
+
+    private Post newPost(Board board, User author, CreatePostCommand command) {
+        return Post.create(board, command.getTitle(), command.getContent(), author,
                 command.getLocation(), command.getMealPrice(), command.getGuaranteeMin(),
                 command.getRentalFee(), command.getEtcFee());
-        return postRepository.save(post).getId();
     }
 
+    /**
+     * 글을 읽지 않고 게시판 조건을 건 UPDATE 한 문장으로 수정한다. 0건이면 해당 게시판에 없는 글이다.
+     * 총비용은 엔티티와 같은 VenueCost.totalOf 로 계산한다.
+     */
     @Transactional
-    public void updatePost(Long id, UpdatePostCommand command) {
-        Post post = getPost(id);
-        post.update(command.getTitle(), command.getContent(),
+    public void updatePost(String boardCode, Long id, UpdatePostCommand command) {
+        int updated = postRepository.updateContent(id, boardCode, command.getTitle(), command.getContent(),
                 command.getLocation(), command.getMealPrice(), command.getGuaranteeMin(),
-                command.getRentalFee(), command.getEtcFee());
-        postRepository.save(post);
+                command.getRentalFee(), command.getEtcFee(),
+                VenueCost.totalOf(command.getMealPrice(), command.getGuaranteeMin(),
+                        command.getRentalFee(), command.getEtcFee()),
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + id);
+        }
+        eventPublisher.publishEvent(PostChangedEvent.of(boardCode, id, Change.UPDATED));
     }
 
+    /**
+     * 댓글 트리 크기와 무관하게 댓글 UPDATE/DELETE 한 번씩과 게시판 조건을 건 게시글 DELETE로 지운다.
+     * 게시글이 0건이면 해당 게시판에 없는 글이므로 예외로 트랜잭션을 되돌려 먼저 지운 댓글도 복구한다.
+     */
     @Transactional
-    public void deletePost(Long id) {
-        commentRepository.deleteByPostIdAndParentIsNotNull(id);
-        commentRepository.deleteByPostIdAndParentIsNull(id);
-        postRepository.deleteById(id);
+    public void deletePost(String boardCode, Long id) {
+        commentRepository.detachRepliesByPostId(id);
+        commentRepository.deleteThreadByPostId(id);
+        if (postRepository.deleteByIdAndBoardCode(id, boardCode) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + id);
+        }
+        eventPublisher.publishEvent(PostChangedEvent.of(boardCode, id, Change.DELETED));
     }
 }
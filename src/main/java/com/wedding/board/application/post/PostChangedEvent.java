@@ -0,0 +1,38 @@
+package com.wedding.board.application.post;
+
+import lombok.Getter;
+
+/**
+ * 게시글(또는 게시글에 딸린 댓글 수)이 바뀌었음을 알린다.
+ * 목록 캐시, 검색 색인 등 파생 데이터는 커밋 이후 이 이벤트로 갱신한다.
+ */
+@Getter
+public class PostChangedEvent {
+
+    public enum Change {
+        CREATED, UPDATED, DELETED,
+        /** 댓글 작성/삭제로 댓글 수만 바뀜 */
+        COMMENTS
+    }
+
+    private final String boardCode;
+    private final Long postId;
+    private final Change change;
+    /** COMMENTS 일 때 댓글 수 증감 (작성은 양수, 삭제는 음수). 그 외에는 0 */
+    private final int commentDelta;
+
+    private PostChangedEvent(String boardCode, Long postId, Change change, int commentDelta) {
+        this.boardCode = boardCode;
+        this.postId = postId;
+        this.change = change;
+        this.commentDelta = commentDelta;
+    }
+
+    public static PostChangedEvent of(String boardCode, Long postId, Change change) {
+        return new PostChangedEvent(boardCode, postId, change, 0);
+    }
+
+    public static PostChangedEvent comments(String boardCode, Long postId, int commentDelta) {
+        return new PostChangedEvent(boardCode, postId, Change.COMMENTS, commentDelta);
+    }
+}
@@ -0,0 +1,51 @@
+package com.wedding.board.application.post;
+
+import com.wedding.board.domain.post.PostSummary;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 게시글 목록 keyset 페이징 커서.
+ * (createdAt, id) 쌍을 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+@Getter
+@EqualsAndHashCode
+public class PostCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private PostCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static PostCursor of(LocalDateTime createdAt, Long id) {
+        return new PostCursor(createdAt, id);
+    }
+
+    public static PostCursor from(PostSummary post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token);
+        }
+    }
+}
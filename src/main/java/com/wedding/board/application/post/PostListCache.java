@@ -0,0 +1,93 @@
+package com.wedding.board.application.post;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판별 목록 조회 결과 캐시.
+ * 크기/TTL로 제한하고, 글이 바뀌면 커밋 이후 그 게시판의 항목만 비운다.
+ * 조회수 반영은 쓰기로 보지 않으므로 목록의 조회수는 최대 TTL 만큼 늦게 보인다.
+ * 키에 게시판 세대(generation)를 넣어, 비우기 전에 시작한 조회가 끝나며 넣는 이전 목록은
+ * 새 세대의 요청에 쓰이지 않고 TTL/크기 제한으로 밀려나게 한다.
+ * hit/miss 등은 cache.* 메트릭(cache=postList)으로 노출된다.
+ */
+@Component
+public class PostListCache {
+
+    static final String CACHE_NAME = "postList";
+
+    private final Cache<Key, PostSlice> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public PostListCache(@Value("${board.post-list-cache.maximum-size:500}") long maximumSize,
+                         @Value("${board.post-list-cache.expire-after-write:30s}") Duration expireAfterWrite,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PostSlice get(String boardCode, String after, String before, int size, Supplier<PostSlice> loader) {
+        // 조회 전에 세대를 읽는다. 조회 중에 비워지면 결과는 이전 세대 키로만 남는다
+        long generation = generation(boardCode).get();
+        Key key = new Key(boardCode, generation, after, before, size);
+        PostSlice slice = cache.getIfPresent(key);
+        if (slice == null) {
+            // DB 조회 중에 같은 해시 구간의 다른 키까지 막히지 않도록 compute 밖에서 읽는다
+            slice = loader.get();
+            PostSlice raced = cache.asMap().putIfAbsent(key, slice);
+            if (raced != null) {
+                slice = raced;
+            }
+        }
+        return slice;
+    }
+
+    public void evictBoard(String boardCode) {
+        generation(boardCode).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.boardCode.equals(boardCode));
+    }
+
+    @Order(0)  // BoardVersions 보다 먼저 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evictBoard(event.getBoardCode());
+    }
+
+    private AtomicLong generation(String boardCode) {
+        return generations.computeIfAbsent(boardCode, code -> new AtomicLong());
+    }
+
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final String boardCode;
+        private final long generation;
+        private final String after;
+        private final String before;
+        private final int size;
+
+        private Key(String boardCode, long generation, String after, String before, int size) {
+            this.boardCode = boardCode;
+            this.generation = generation;
+            this.after = after;
+            this.before = before;
+            this.size = size;
+        }
+    }
+}
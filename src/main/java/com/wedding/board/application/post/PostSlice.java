@@ -0,0 +1,45 @@
+package com.wedding.board.application.post;
+
+import com.wedding.board.domain.post.PostSummary;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * keyset 페이징 결과. 전체 건수 없이 이전/다음 커서만 가진다.
+ * 목록 캐시에서 여러 요청이 공유하므로 불변으로 둔다.
+ */
+@Getter
+public class PostSlice {
+
+    private final List<PostSummary> content;
+    private final String previousCursor;
+    private final String nextCursor;
+
+    private PostSlice(List<PostSummary> content, String previousCursor, String nextCursor) {
+        this.content = List.copyOf(content);
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+    }
+
+    /** content는 화면 표시 순서(최신순)여야 한다 */
+    public static PostSlice of(List<PostSummary> content, boolean hasPrevious, boolean hasNext) {
+        if (content.isEmpty()) {
+            return new PostSlice(content, null, null);
+        }
+        String previous = hasPrevious ? PostCursor.from(content.get(0)).encode() : null;
+        String next = hasNext ? PostCursor.from(content.get(content.size() - 1)).encode() : null;
+        return new PostSlice(content, previous, next);
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
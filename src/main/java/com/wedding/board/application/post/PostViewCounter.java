@@ -0,0 +1,164 @@
+package com.wedding.board.application.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 write-behind 카운터.
+ * 조회마다 posts 행을 갱신하면 인기 글에서 행 잠금 경합이 생기므로, 글별 LongAdder(스레드별로 나뉜 셀)에 모았다가
+ * flush-interval 마다 증가분을 JDBC batch UPDATE 한 번으로 더한다. 종료할 때도 남은 증가분을 반영한다.
+ * 반영한 증가분은 PostsViewedEvent 로 알린다. 목록 캐시/ETag 는 비우지 않으므로 목록의 조회수는 캐시 TTL 만큼 늦을 수 있다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter implements AutoCloseable {
+
+    static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final ConcurrentMap<Long, Views> pending = new ConcurrentHashMap<>();
+    /** 지난 flush 에서 맵에서 뺀 카운터. 빼기 직전에 카운터를 집어 간 조회를 다음 flush 에서 거둔다 */
+    private List<Views> retired = List.of();
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration flushInterval;
+    private ScheduledExecutorService scheduler;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                           @Value("${board.view-counter.flush-interval:5s}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.flushInterval = flushInterval;
+    }
+
+    public void increment(Long postId) {
+        Views views = pending.get(postId);
+        if (views == null) {
+            views = pending.computeIfAbsent(postId, id -> new Views(id));
+        }
+        views.count.increment();
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수. 화면에는 DB 값에 이 값을 더해 보여준다 */
+    public long pending(Long postId) {
+        Views views = pending.get(postId);
+        return views == null ? 0 : views.count.sum();
+    }
+
+    /** flush-interval 마다 반영한다 (0 이면 flush 를 직접 호출할 때만) */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (flushInterval.isZero() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-view-counter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 작업이 예외로 끝나면 이후 주기가 모두 취소되므로 어떤 실패든 여기서 삼킨다
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다", e);
+            }
+        }, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 쌓인 증가분을 글 id 순 batch UPDATE 로 반영하고 반영한 글 수를 돌려준다.
+     * 지난 주기 이후 조회가 없던 글의 카운터는 맵에서 빼고, 빼는 사이 들어온 조회는 다음 flush 에서 거둔다.
+     * DB 반영에 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다.
+     */
+    public synchronized int flush() {
+        return flush(true);
+    }
+
+    private int flush(boolean notify) {
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Views views : retired) {
+            drain(views, deltas);
+        }
+        List<Views> idle = new ArrayList<>();
+        pending.forEach((postId, views) -> {
+            if (!drain(views, deltas) && pending.remove(postId, views)) {
+                idle.add(views);
+            }
+        });
+        retired = idle;
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batch.add(new Object[]{delta, postId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            deltas.forEach((postId, delta) -> pending
+                    .computeIfAbsent(postId, id -> new Views(id))
+                    .count.add(delta));
+            throw e;
+        }
+        // 증가분은 이미 반영됐으므로 받는 쪽이 실패해도 재시도하지 않고 flush 결과도 바꾸지 않는다
+        if (notify) {
+            try {
+                eventPublisher.publishEvent(PostsViewedEvent.of(deltas));
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 이벤트 처리 실패", e);
+            }
+        }
+        return deltas.size();
+    }
+
+    /** 카운터의 증가분을 옮겨 담고, 증가분이 있었는지 돌려준다 */
+    private static boolean drain(Views views, Map<Long, Long> deltas) {
+        long delta = views.count.sumThenReset();
+        if (delta == 0) {
+            return false;
+        }
+        deltas.merge(views.postId, delta, Long::sum);
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        // 종료 중에는 DB 반영만 하고 이벤트는 보내지 않는다 (받을 빈이 이미 정리됐을 수 있다)
+        try {
+            flush(false);
+        } catch (DataAccessException e) {
+            log.warn("종료 전 조회수 반영 실패", e);
+        }
+    }
+
+    /** 글 하나의 반영 전 조회수 (스레드별로 나뉜 셀에 더한다) */
+    private static final class Views {
+
+        private final Long postId;
+        private final LongAdder count = new LongAdder();
+
+        private Views(Long postId) {
+            this.postId = postId;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.wedding.board.application.post;
+
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 조회수 증가분이 DB에 반영되었음을 알린다 (PostViewCounter 의 flush 마다 한 번).
+ * 인기 글 순위처럼 조회에 반응하는 파생 데이터는 조회마다가 아니라 이 이벤트로 모아서 갱신한다.
+ */
+@Getter
+public class PostsViewedEvent {
+
+    /** 글 id → 이번 주기의 조회 증가분 */
+    private final Map<Long, Long> views;
+
+    private PostsViewedEvent(Map<Long, Long> views) {
+        this.views = views;
+    }
+
+    public static PostsViewedEvent of(Map<Long, Long> views) {
+        return new PostsViewedEvent(Map.copyOf(views));
+    }
+}
@@ -0,0 +1,47 @@
+package com.wedding.board.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 글자 bigram 토크나이저.
+ * "강남웨딩홀" → [강남, 남웨, 웨딩, 딩홀] 처럼 조사/붙여쓰기와 무관하게 부분 문자열로 찾을 수 있다.
+ * 한 글자 단어는 그대로 하나의 토큰이 된다.
+ */
+final class NGramTokenizer {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NGramTokenizer() {
+    }
+
+    /** 색인용: 중복을 유지해 출현 빈도를 셀 수 있게 한다 */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(HTML_TAG.matcher(text).replaceAll(" "), Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /** 질의용: 중복 없는 토큰 */
+    static Set<String> distinctTokens(String text) {
+        return new LinkedHashSet<>(tokenize(text));
+    }
+}
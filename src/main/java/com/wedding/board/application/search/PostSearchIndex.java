@@ -0,0 +1,225 @@
+package com.wedding.board.application.search;
+
+import com.wedding.board.application.post.PostChangedEvent;
+import com.wedding.board.datasource.ReplicaRoutingDataSource;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 제목/장소/본문의 메모리 역색인 (bigram → 게시글별 가중 빈도).
+ * 기동 시 전체를 색인하고, 이후에는 커밋된 PostChangedEvent로 해당 글만 다시 색인한다.
+ * 질의의 모든 토큰을 포함한 글만 찾고 tf-idf 합으로 순위를 매긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int LOCATION_WEIGHT = 2;
+    static final int CONTENT_WEIGHT = 1;
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+
+    /**
+     * id 순 keyset으로 나눠 읽어 본문을 한꺼번에 메모리에 올리지 않는다.
+     * 색인은 다음 변경까지 남으므로 시작 직후 아직 따라잡지 못한 복제본이 아닌 primary 에서 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+        long afterId = 0;
+        List<Post> batch;
+        do {
+            long from = afterId;
+            batch = ReplicaRoutingDataSource.onPrimary(
+                    () -> postRepository.findIndexBatchAfter(from, PageRequest.of(0, BUILD_BATCH_SIZE)));
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getChange()) {
+            case CREATED:
+            case UPDATED:
+                postRepository.findById(event.getPostId())
+                        .ifPresentOrElse(this::index, () -> remove(event.getPostId()));
+                break;
+            case DELETED:
+                remove(event.getPostId());
+                break;
+            default:
+                // 댓글 수 변경은 색인 대상이 아니다
+        }
+    }
+
+    public void index(Post post) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTokens(frequencies, post.getTitle(), TITLE_WEIGHT);
+        addTokens(frequencies, post.getLocation(), LOCATION_WEIGHT);
+        addTokens(frequencies, post.getContent(), CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(post.getId());
+            frequencies.forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, t -> new HashMap<>()).put(post.getId(), frequency));
+            documents.put(post.getId(), new IndexedPost(post.getBoardCode(), frequencies.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시판 안에서 질의와 일치하는 글 id를 점수 내림차순(동점이면 최신 글 먼저)으로 반환한다.
+     */
+    public List<Long> search(String boardCode, String query) {
+        Set<String> tokens = NGramTokenizer.distinctTokens(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matched = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    return List.of();
+                }
+                matched.add(posting);
+            }
+            // 가장 짧은 posting의 글만 후보로 두고 나머지 posting에 모두 있는지 확인하며 점수를 더한다
+            matched.sort(Comparator.comparingInt(Map::size));
+            double[] idf = new double[matched.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1 + (double) documents.size() / matched.get(i).size());
+            }
+
+            List<ScoredPost> hits = new ArrayList<>();
+            candidates:
+            for (Map.Entry<Long, Integer> entry : matched.get(0).entrySet()) {
+                Long postId = entry.getKey();
+                if (!documents.get(postId).boardCode.equals(boardCode)) {
+                    continue;
+                }
+                double score = entry.getValue() * idf[0];
+                for (int i = 1; i < idf.length; i++) {
+                    Integer frequency = matched.get(i).get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += frequency * idf[i];
+                }
+                hits.add(new ScoredPost(postId, score));
+            }
+
+            hits.sort(ScoredPost.RANKING);
+            List<Long> ranked = new ArrayList<>(hits.size());
+            for (ScoredPost hit : hits) {
+                ranked.add(hit.postId);
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long postId) {
+        IndexedPost previous = documents.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static void addTokens(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : NGramTokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static final class ScoredPost {
+
+        /** 점수 내림차순, 동점이면 최신(큰 id) 먼저 */
+        private static final Comparator<ScoredPost> RANKING = Comparator.comparingDouble((ScoredPost hit) -> hit.score)
+                .reversed()
+                .thenComparing(hit -> hit.postId, Comparator.reverseOrder());
+
+        private final Long postId;
+        private final double score;
+
+        private ScoredPost(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+
+    private static final class IndexedPost {
+
+        private final String boardCode;
+        private final Set<String> tokens;
+
+        private IndexedPost(String boardCode, Set<String> tokens) {
+            this.boardCode = boardCode;
+            this.tokens = tokens;
+        }
+    }
+}
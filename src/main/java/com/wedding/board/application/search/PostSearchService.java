@@ -0,0 +1,46 @@
+package com.wedding.board.application.search;
+
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.PostSummary;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    /**
+     * 순위는 메모리 색인에서 매기고, 요청한 페이지의 글만 id로 목록 projection을 조회한다.
+     * LIKE '%...%' 전체 스캔 없이 결과 페이지 크기만큼만 DB를 읽는다.
+     */
+    public Page<PostSummary> search(String boardCode, String query, Pageable pageable) {
+        List<Long> ranked = postSearchIndex.search(boardCode, query);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        List<PostSummary> content = pageIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+}
@@ -0,0 +1,27 @@
+package com.wedding.board.application.venue;
+
+import lombok.Getter;
+
+/**
+ * 한 비용 항목의 요약. 값이 없으면 count=0이고 나머지는 null이다.
+ * median/p90은 nearest-rank 방식(정렬했을 때 ceil(p x n)번째 값)이다.
+ */
+@Getter
+public class CostStats {
+
+    static final CostStats EMPTY = new CostStats(0, null, null, null, null);
+
+    private final int count;
+    private final Long min;
+    private final Double average;
+    private final Long median;
+    private final Long p90;
+
+    CostStats(int count, Long min, Double average, Long median, Long p90) {
+        this.count = count;
+        this.min = min;
+        this.average = average;
+        this.median = median;
+        this.p90 = p90;
+    }
+}
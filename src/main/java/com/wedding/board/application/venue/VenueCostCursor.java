@@ -0,0 +1,44 @@
+package com.wedding.board.application.venue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 비용순 목록 keyset 커서. (totalCost, id) 쌍을 불투명한 문자열로 노출한다.
+ */
+@Getter
+class VenueCostCursor {
+
+    private static final String SEPARATOR = "_";
+
+    /** 첫 페이지: 모든 (totalCost, id) 보다 앞 */
+    static final VenueCostCursor FIRST = new VenueCostCursor(Long.MIN_VALUE, 0L);
+
+    private final Long totalCost;
+    private final Long id;
+
+    private VenueCostCursor(Long totalCost, Long id) {
+        this.totalCost = totalCost;
+        this.id = id;
+    }
+
+    static VenueCostCursor of(Long totalCost, Long id) {
+        return new VenueCostCursor(totalCost, id);
+    }
+
+    String encode() {
+        String raw = totalCost + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static VenueCostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new VenueCostCursor(Long.valueOf(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.wedding.board.application.venue;
+
+import com.wedding.board.application.post.PostChangedEvent;
+import com.wedding.board.datasource.ReplicaRoutingDataSource;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.VenueCost;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예식장 게시판 비용 통계 (min/avg/median/p90).
+ * 항목별로 값 → 건수 정렬 맵을 유지하며 글이 바뀔 때 그 글의 이전 값만 빼고 새 값을 더한다.
+ * 중앙값/p90 은 백분위마다 "현재 값과 그보다 작은 값의 개수"를 가리키는 커서로 유지한다.
+ * 값 하나가 바뀌면 목표 순위도 커서 앞의 개수도 많아야 1 움직이므로 커서는 이웃 값으로 한 칸만 옮기면 되고(O(log n)),
+ * 쓰기마다 불변 스냅샷을 새로 만들어 조회는 계산 없이 그대로 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VenueCostStatistics {
+
+    public static final String VENUE_BOARD_CODE = "VENUE";
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, VenueCost> costsByPost = new HashMap<>();
+    private final SortedCounts mealPrice = new SortedCounts(cost -> toLong(cost.getMealPrice()));
+    private final SortedCounts guaranteeMin = new SortedCounts(cost -> toLong(cost.getGuaranteeMin()));
+    private final SortedCounts rentalFee = new SortedCounts(cost -> toLong(cost.getRentalFee()));
+    private final SortedCounts etcFee = new SortedCounts(cost -> toLong(cost.getEtcFee()));
+    private final SortedCounts totalCost = new SortedCounts(VenueCost::getTotalCost);
+
+    private volatile VenueCostSummary summary = VenueCostSummary.EMPTY;
+
+    public VenueCostSummary getSummary() {
+        return summary;
+    }
+
+    /** 통계는 다음 변경까지 남으므로 primary 에서 읽는다 */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        costsByPost.clear();
+        for (SortedCounts counts : all()) {
+            counts.clear();
+        }
+        ReplicaRoutingDataSource.onPrimary(() -> postRepository.findVenueCostsByBoardCode(VENUE_BOARD_CODE))
+                .forEach(this::apply);
+        publish();
+    }
+
+    @Order(0)  // BoardVersions 보다 먼저 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!VENUE_BOARD_CODE.equals(event.getBoardCode())) {
+            return;
+        }
+        switch (event.getChange()) {
+            case CREATED:
+            case UPDATED:
+                postRepository.findById(event.getPostId())
+                        .ifPresentOrElse(post -> update(VenueCost.of(post)), () -> remove(event.getPostId()));
+                break;
+            case DELETED:
+                remove(event.getPostId());
+                break;
+            default:
+                // 댓글 수 변경은 비용과 무관하다
+        }
+    }
+
+    public synchronized void update(VenueCost cost) {
+        apply(cost);
+        publish();
+    }
+
+    public synchronized void remove(Long postId) {
+        VenueCost previous = costsByPost.remove(postId);
+        if (previous != null) {
+            for (SortedCounts counts : all()) {
+                counts.remove(previous);
+            }
+            publish();
+        }
+    }
+
+    private void apply(VenueCost cost) {
+        VenueCost previous = costsByPost.put(cost.getPostId(), cost);
+        for (SortedCounts counts : all()) {
+            if (previous != null) {
+                counts.remove(previous);
+            }
+            counts.add(cost);
+        }
+    }
+
+    private void publish() {
+        summary = new VenueCostSummary(costsByPost.size(), mealPrice.stats(), guaranteeMin.stats(),
+                rentalFee.stats(), etcFee.stats(), totalCost.stats());
+    }
+
+    private SortedCounts[] all() {
+        return new SortedCounts[]{mealPrice, guaranteeMin, rentalFee, etcFee, totalCost};
+    }
+
+    private static Long toLong(Integer value) {
+        return value == null ? null : value.longValue();
+    }
+
+    /** 한 항목의 값 분포 (null 값은 제외) */
+    private static final class SortedCounts {
+
+        private final Function<VenueCost, Long> field;
+        private final NavigableMap<Long, Integer> counts = new TreeMap<>();
+        /** nearest-rank 중앙값: ceil(n / 2)번째 */
+        private final Percentile median = new Percentile(size -> (size + 1) / 2);
+        /** nearest-rank p90: ceil(9n / 10)번째 */
+        private final Percentile p90 = new Percentile(size -> (size * 9 + 9) / 10);
+        private int size;
+        private long sum;
+
+        private SortedCounts(Function<VenueCost, Long> field) {
+            this.field = field;
+        }
+
+        void add(VenueCost cost) {
+            Long value = field.apply(cost);
+            if (value != null) {
+                counts.merge(value, 1, Integer::sum);
+                size++;
+                sum += value;
+                median.added(value);
+                p90.added(value);
+            }
+        }
+
+        void remove(VenueCost cost) {
+            Long value = field.apply(cost);
+            if (value != null) {
+                counts.computeIfPresent(value, (v, count) -> count == 1 ? null : count - 1);
+                size--;
+                sum -= value;
+                median.removed(value);
+                p90.removed(value);
+            }
+        }
+
+        void clear() {
+            counts.clear();
+            size = 0;
+            sum = 0;
+            median.clear();
+            p90.clear();
+        }
+
+        CostStats stats() {
+            if (size == 0) {
+                return CostStats.EMPTY;
+            }
+            return new CostStats(size, counts.firstKey(), (double) sum / size, median.value, p90.value);
+        }
+
+        /**
+         * 목표 순위의 값을 가리키는 커서.
+         * below 는 value 보다 작은 값의 개수이고, below < 목표 순위 <= below + (value 의 건수) 를 유지한다.
+         */
+        private final class Percentile {
+
+            private final IntUnaryOperator rank;
+            private Long value;
+            private int below;
+
+            private Percentile(IntUnaryOperator rank) {
+                this.rank = rank;
+            }
+
+            /** counts 에 더한 뒤 호출한다 */
+            void added(long added) {
+                if (value == null) {
+                    value = added;
+                    below = 0;
+                } else if (added < value) {
+                    below++;
+                }
+                settle();
+            }
+
+            /** counts 에서 뺀 뒤 호출한다 */
+            void removed(long removed) {
+                if (counts.isEmpty()) {
+                    clear();
+                    return;
+                }
+                if (removed < value) {
+                    below--;
+                } else if (removed == value && !counts.containsKey(value)) {
+                    // 가리키던 값이 사라졌다. 작은 값의 개수는 그대로이므로 바로 다음 값으로 옮긴다
+                    Map.Entry<Long, Integer> higher = counts.higherEntry(value);
+                    if (higher != null) {
+                        value = higher.getKey();
+                    } else {
+                        Map.Entry<Long, Integer> lower = counts.lowerEntry(value);
+                        value = lower.getKey();
+                        below -= lower.getValue();
+                    }
+                }
+                settle();
+            }
+
+            void clear() {
+                value = null;
+                below = 0;
+            }
+
+            /** 목표 순위가 커서 밖으로 나갔으면 이웃 값으로 옮긴다 (값 하나가 바뀔 때는 한 칸 안쪽) */
+            private void settle() {
+                int target = rank.applyAsInt(size);
+                while (target <= below) {
+                    Map.Entry<Long, Integer> lower = counts.lowerEntry(value);
+                    value = lower.getKey();
+                    below -= lower.getValue();
+                }
+                while (target > below + counts.get(value)) {
+                    below += counts.get(value);
+                    value = counts.higherKey(value);
+                }
+            }
+        }
+    }
+}
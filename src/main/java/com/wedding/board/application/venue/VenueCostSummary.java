@@ -0,0 +1,30 @@
+package com.wedding.board.application.venue;
+
+import lombok.Getter;
+
+/**
+ * 예식장 게시판 비용 통계 스냅샷 (불변).
+ */
+@Getter
+public class VenueCostSummary {
+
+    static final VenueCostSummary EMPTY = new VenueCostSummary(0,
+            CostStats.EMPTY, CostStats.EMPTY, CostStats.EMPTY, CostStats.EMPTY, CostStats.EMPTY);
+
+    private final int venueCount;
+    private final CostStats mealPrice;
+    private final CostStats guaranteeMin;
+    private final CostStats rentalFee;
+    private final CostStats etcFee;
+    private final CostStats totalCost;
+
+    VenueCostSummary(int venueCount, CostStats mealPrice, CostStats guaranteeMin, CostStats rentalFee,
+                     CostStats etcFee, CostStats totalCost) {
+        this.venueCount = venueCount;
+        this.mealPrice = mealPrice;
+        this.guaranteeMin = guaranteeMin;
+        this.rentalFee = rentalFee;
+        this.etcFee = etcFee;
+        this.totalCost = totalCost;
+    }
+}
@@ -0,0 +1,37 @@
+package com.wedding.board.application.venue;
+
+import lombok.Getter;
+
+/**
+ * 예식장 목록 조건. null인 범위 조건은 적용하지 않고, 식대 범위가 뒤집혀 들어오면 바로잡는다.
+ */
+@Getter
+public class VenueFilter {
+
+    public enum Sort {
+        /** 최신 글 순 */
+        LATEST,
+        /** 예상 총비용 낮은 순 (총비용을 계산할 수 없는 글은 제외) */
+        TOTAL_COST
+    }
+
+    private final Integer mealPriceMin;
+    private final Integer mealPriceMax;
+    private final Integer guaranteeMax;
+    private final Long totalCostMax;
+    private final Sort sort;
+
+    private VenueFilter(Integer mealPriceMin, Integer mealPriceMax, Integer guaranteeMax, Long totalCostMax, Sort sort) {
+        boolean reversed = mealPriceMin != null && mealPriceMax != null && mealPriceMin > mealPriceMax;
+        this.mealPriceMin = reversed ? mealPriceMax : mealPriceMin;
+        this.mealPriceMax = reversed ? mealPriceMin : mealPriceMax;
+        this.guaranteeMax = guaranteeMax;
+        this.totalCostMax = totalCostMax;
+        this.sort = sort != null ? sort : Sort.LATEST;
+    }
+
+    public static VenueFilter of(Integer mealPriceMin, Integer mealPriceMax, Integer guaranteeMax, Long totalCostMax,
+                                 Sort sort) {
+        return new VenueFilter(mealPriceMin, mealPriceMax, guaranteeMax, totalCostMax, sort);
+    }
+}
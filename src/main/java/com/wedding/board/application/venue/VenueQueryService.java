@@ -0,0 +1,59 @@
+package com.wedding.board.application.venue;
+
+import com.wedding.board.application.post.PostCursor;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.VenueSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예식장 게시판 조건 검색/비용순 목록.
+ * 비용순은 저장된 total_cost 인덱스 범위만 읽고, 최신순은 목록 인덱스를 따라가며 조건을 거른다.
+ * 조건 조합이 많아 목록 캐시는 거치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VenueQueryService {
+
+    /** 최신순 첫 페이지 커서: 모든 글보다 나중 */
+    private static final PostCursor LATEST_FIRST = PostCursor.of(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    private final PostRepository postRepository;
+
+    public VenueSlice getVenues(VenueFilter filter, String after, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        if (filter.getSort() == VenueFilter.Sort.TOTAL_COST) {
+            VenueCostCursor cursor = after != null ? VenueCostCursor.decode(after) : VenueCostCursor.FIRST;
+            Slice<VenueSummary> slice = postRepository.findVenuesByTotalCost(VenueCostStatistics.VENUE_BOARD_CODE,
+                    cursor.getTotalCost(), cursor.getId(),
+                    filter.getTotalCostMax() != null ? filter.getTotalCostMax() : Long.MAX_VALUE,
+                    filter.getMealPriceMin(), filter.getMealPriceMax(), filter.getGuaranteeMax(), limit);
+            String next = slice.hasNext() ? costCursor(last(slice.getContent())).encode() : null;
+            return VenueSlice.of(slice.getContent(), next);
+        }
+        PostCursor cursor = after != null ? PostCursor.decode(after) : LATEST_FIRST;
+        Slice<VenueSummary> slice = postRepository.findVenuesByLatest(VenueCostStatistics.VENUE_BOARD_CODE,
+                cursor.getCreatedAt(), cursor.getId(), filter.getTotalCostMax(),
+                filter.getMealPriceMin(), filter.getMealPriceMax(), filter.getGuaranteeMax(), limit);
+        String next = slice.hasNext() ? latestCursor(last(slice.getContent())).encode() : null;
+        return VenueSlice.of(slice.getContent(), next);
+    }
+
+    private static VenueSummary last(List<VenueSummary> content) {
+        return content.get(content.size() - 1);
+    }
+
+    private static VenueCostCursor costCursor(VenueSummary venue) {
+        return VenueCostCursor.of(venue.getTotalCost(), venue.getId());
+    }
+
+    private static PostCursor latestCursor(VenueSummary venue) {
+        return PostCursor.of(venue.getCreatedAt(), venue.getId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.wedding.board.application.venue;
+
+import com.wedding.board.domain.post.VenueSummary;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 예식장 필터 목록 keyset 페이징 결과 (다음 페이지 커서만 가진다).
+ */
+@Getter
+public class VenueSlice {
+
+    private final List<VenueSummary> content;
+    private final String nextCursor;
+
+    private VenueSlice(List<VenueSummary> content, String nextCursor) {
+        this.content = List.copyOf(content);
+        this.nextCursor = nextCursor;
+    }
+
+    public static VenueSlice of(List<VenueSummary> content, String nextCursor) {
+        return new VenueSlice(content, nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
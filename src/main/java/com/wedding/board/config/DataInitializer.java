@@ -4,6 +4,7 @@ import com.wedding.board.domain.board.Board;
 import com.wedding.board.domain.board.BoardRepository;
 import com.wedding.board.domain.user.User;
 import com.wedding.board.domain.user.UserRepository;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,16 +22,15 @@ public class DataInitializer implements CommandLineRunner {
     @Override
     @Transactional
     public void run(String... args) {
-        if (userRepository.count() > 0) {
+        // 기본 키 조회 한 번으로 시드 여부를 판단한다 (테이블 COUNT 없이)
+        if (boardRepository.existsById("GENERAL")) {
             return;
         }
 
-        boardRepository.save(Board.of("GENERAL", "자유게시판"));
-        boardRepository.save(Board.of("VENUE", "예식장"));
+        boardRepository.saveAll(List.of(Board.of("GENERAL", "자유게시판"), Board.of("VENUE", "예식장")));
 
-        User user1 = User.create("user1", passwordEncoder.encode("1234"));
-        User user2 = User.create("user2", passwordEncoder.encode("1234"));
-        userRepository.save(user1);
-        userRepository.save(user2);
+        // 개발용 계정은 비밀번호가 같으므로 BCrypt 해시는 한 번만 계산한다
+        String password = passwordEncoder.encode("1234");
+        userRepository.saveAll(List.of(User.create("user1", password), User.create("user2", password)));
     }
 }
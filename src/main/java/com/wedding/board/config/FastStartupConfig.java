@@ -0,0 +1,24 @@
+package com.wedding.board.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.BeanIds;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 빠른 시작 모드(fast-startup 프로파일)의 지연 초기화 예외.
+ * 나머지 빈은 처음 쓸 때 만들지만, 모든 요청이 지나는 보안 필터 체인은 시작 중에 만들어
+ * 준비 완료 직후 들어오는 첫 요청이 그 비용을 떠안지 않게 한다 (DispatcherServlet 은 load-on-startup).
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return (beanName, definition, beanType) -> BeanIds.SPRING_SECURITY_FILTER_CHAIN.equals(beanName)
+                || SecurityFilterChain.class.isAssignableFrom(beanType);
+    }
+}
@@ -0,0 +1,19 @@
+package com.wedding.board.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 메서드 타이머: @Timed("board.service") 가 붙은 클래스의 public 메서드를 class/method 태그로 잰다.
+ * 리포지토리 호출은 spring.data.repository.invocations, 커넥션 풀은 hikaricp.connections.* 로 자동 노출된다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,133 @@
+package com.wedding.board.config;
+
+import com.wedding.board.datasource.LocalReplicaSync;
+import com.wedding.board.datasource.ReadYourWrites;
+import com.wedding.board.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 복제본 라우팅 (board.datasource.replica.enabled=true, 기본 꺼짐).
+ * spring.datasource 는 primary, board.datasource.replica 는 복제본 풀이 되고
+ * 읽기 전용 트랜잭션(서비스 클래스의 readOnly 기본값)은 복제본, 쓰기는 primary 로 간다 (ReplicaRoutingDataSource).
+ * 쓴 사용자는 sticky-window 동안 primary 에서 읽는다 (ReadYourWritesInterceptor).
+ * 로컬에서는 local-sync 로 내장 H2 두 개를 동기화해 복제 지연까지 재현한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "board.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("board.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${board.datasource.replica.url}") String url,
+                                              @Value("${board.datasource.replica.username:}") String username,
+                                              @Value("${board.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /** JPA/Flyway 가 쓰는 기본 DataSource. 실제 커넥션은 첫 SQL 에서 트랜잭션 속성을 보고 고른다 */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션을 돌려준다. 기본값(세션 동안 유지)이면 open-in-view 세션이
+     * 앞선 읽기 트랜잭션의 복제본 커넥션을 같은 요청의 쓰기 트랜잭션에 다시 쓴다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${board.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWrites(stickyWindow);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.datasource.replica.local-sync.enabled", havingValue = "true")
+    public LocalReplicaSync localReplicaSync(DataSourceProperties properties, FlywayProperties flywayProperties,
+                                             @Value("${board.datasource.replica.url}") String url,
+                                             @Value("${board.datasource.replica.local-sync.interval:1s}") Duration interval) {
+        String password = properties.determinePassword();
+        return new LocalReplicaSync(properties.determineUrl(), url, properties.determineUsername(),
+                password == null ? "" : password,
+                flywayProperties.getLocations().toArray(String[]::new), interval);
+    }
+
+    /** DataInitializer 등 시작 시 쓰기가 끝난 뒤 첫 동기화 */
+    @Bean
+    @ConditionalOnProperty(name = "board.datasource.replica.local-sync.enabled", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> localReplicaSyncStarter(LocalReplicaSync localReplicaSync) {
+        return new LocalReplicaSyncStarter(localReplicaSync);
+    }
+
+    /**
+     * 같은 이벤트의 캐시/색인 rebuild 보다 먼저 동기화한다.
+     * 람다 리스너에는 @Bean 메서드의 @Order 가 적용되지 않으므로 Ordered 로 순서를 준다.
+     */
+    private static final class LocalReplicaSyncStarter implements ApplicationListener<ApplicationReadyEvent>, Ordered {
+
+        private final LocalReplicaSync localReplicaSync;
+
+        private LocalReplicaSyncStarter(LocalReplicaSync localReplicaSync) {
+            this.localReplicaSync = localReplicaSync;
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationReadyEvent event) {
+            localReplicaSync.start();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
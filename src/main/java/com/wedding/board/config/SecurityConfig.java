@@ -1,6 +1,8 @@
 package com.wedding.board.config;
 
 import com.wedding.board.security.CustomUserDetailsService;
+import com.wedding.board.security.SessionPrincipalAuthenticationProvider;
+import com.wedding.board.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,13 +19,17 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .authorizeRequests(auth -> auth
-                .antMatchers("/", "/css/**", "/js/**", "/h2-console/**", "/login").permitAll()
+                .antMatchers("/", "/css/**", "/js/**", "/h2-console/**", "/login", "/actuator/health").permitAll()
+                // 지표에는 요청 경로별 트래픽/지연시간과 커넥션 풀 상태가 드러나므로 관리자만 본다
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                 .antMatchers(HttpMethod.GET, "/boards/*/posts", "/boards/*/posts/*").permitAll()
+                .antMatchers(HttpMethod.GET, "/boards/*/posts/*/comments", "/boards/*/posts/*/comments/*/replies").permitAll()
                 .antMatchers("/boards/*/posts/new", "/boards/*/posts/*/edit").authenticated()
                 .antMatchers(HttpMethod.POST, "/boards/*/posts", "/boards/*/posts/*").authenticated()
                 .antMatchers(HttpMethod.PUT, "/boards/*/posts/*", "/boards/*/posts/*/comments/*").authenticated()
@@ -40,7 +46,7 @@ public class SecurityConfig {
                 .logoutSuccessUrl("/boards/GENERAL/posts")
                 .permitAll()
             )
-            .userDetailsService(userDetailsService);
+            .authenticationProvider(authenticationProvider());
 
         http.csrf(csrf -> csrf.ignoringAntMatchers("/h2-console/**"));
         http.headers().frameOptions().sameOrigin();
@@ -48,6 +54,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public SessionPrincipalAuthenticationProvider authenticationProvider() {
+        return new SessionPrincipalAuthenticationProvider(userDetailsService, passwordEncoder(), userDetailsCache);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
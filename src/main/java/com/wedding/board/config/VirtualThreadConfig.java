@@ -0,0 +1,33 @@
+package com.wedding.board.config;
+
+import java.util.concurrent.Executors;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * 가상 스레드 실행 모드 (board.virtual-threads.enabled=true, 기본 꺼짐).
+ * Tomcat 요청 처리를 요청마다 가상 스레드 하나로 돌린다. 컨트롤러부터 @Transactional 서비스까지
+ * 같은 스레드에서 실행되므로 JPA/JDBC 블로킹 구간도 가상 스레드 위에서 기다린다.
+ * 동시 DB 작업 수는 여전히 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)로 제한된다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "board.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /** MVC 비동기 처리(@Async, Callable 반환 등)도 가상 스레드로 */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -1,5 +1,10 @@
 package com.wedding.board.config;
 
+import com.wedding.board.datasource.ReadYourWrites;
+import com.wedding.board.datasource.ReadYourWritesInterceptor;
+import com.wedding.board.metrics.RequestMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -12,8 +17,19 @@ import javax.servlet.http.HttpServletResponse;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    public WebMvcConfig(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<ReadYourWrites> readYourWrites) {
+        this.meterRegistry = meterRegistry;
+        this.readYourWrites = readYourWrites;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(meters -> registry.addInterceptor(new RequestMetricsInterceptor(meters)));
+        // 읽기 복제본 라우팅을 켰을 때만 (ReplicaDataSourceConfig)
+        readYourWrites.ifAvailable(writes -> registry.addInterceptor(new ReadYourWritesInterceptor(writes)));
         registry.addInterceptor(new HandlerInterceptor() {
             @Override
             public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -0,0 +1,110 @@
+package com.wedding.board.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+
+/**
+ * 로컬 검증용 복제: 내장 H2 복제본을 primary 와 같은 Flyway 스키마로 만들고, 주기적으로 primary 의 행을 복사한다.
+ * 복제본에 primary 테이블을 LINKED TABLE 로 걸어 두고 한 트랜잭션에서 지우고 다시 채우므로,
+ * 복제본 읽기는 동기화 사이에 이전 스냅샷을 본다 (주기만큼의 복제 지연).
+ */
+@Slf4j
+public class LocalReplicaSync implements AutoCloseable {
+
+    /** FK 순서는 무시한다 (복제본은 참조 무결성 검사를 끈다) */
+    private static final List<String> TABLES = List.of("boards", "users", "posts", "comments");
+    private static final String LINK_PREFIX = "primary_";
+
+    private final String primaryUrl;
+    private final String replicaUrl;
+    private final String username;
+    private final String password;
+    private final String[] migrationLocations;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    private boolean linked;
+
+    public LocalReplicaSync(String primaryUrl, String replicaUrl, String username, String password,
+                            String[] migrationLocations, Duration interval) {
+        this.primaryUrl = primaryUrl;
+        this.replicaUrl = replicaUrl;
+        this.username = username;
+        this.password = password;
+        this.migrationLocations = migrationLocations;
+        this.interval = interval;
+    }
+
+    /** 첫 동기화 후 interval 마다 반복한다 (interval 이 0 이면 syncNow 를 직접 호출할 때만) */
+    public void start() {
+        syncNow();
+        if (interval.isZero()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "local-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                syncNow();
+            } catch (RuntimeException e) {
+                log.warn("로컬 복제본 동기화 실패", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void syncNow() {
+        try (Connection replica = DriverManager.getConnection(replicaUrl, username, password)) {
+            if (!linked) {
+                link(replica);
+            }
+            replica.setAutoCommit(false);
+            try (Statement statement = replica.createStatement()) {
+                for (String table : TABLES) {
+                    statement.executeUpdate("DELETE FROM " + table);
+                    statement.executeUpdate("INSERT INTO " + table + " SELECT * FROM " + LINK_PREFIX + table);
+                }
+                replica.commit();
+            } catch (SQLException e) {
+                replica.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("로컬 복제본을 동기화하지 못했습니다", e);
+        }
+    }
+
+    private void link(Connection replica) throws SQLException {
+        Flyway.configure()
+                .dataSource(replicaUrl, username, password)
+                .locations(migrationLocations)
+                .load()
+                .migrate();
+        try (Statement statement = replica.createStatement()) {
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            for (String table : TABLES) {
+                statement.execute("DROP TABLE IF EXISTS " + LINK_PREFIX + table);
+                statement.execute("CREATE LINKED TABLE " + LINK_PREFIX + table + "('org.h2.Driver', '"
+                        + primaryUrl + "', '" + username + "', '" + password + "', 'PUBLIC', '" + table.toUpperCase() + "')");
+            }
+        }
+        linked = true;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.wedding.board.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * 사용자별 마지막 쓰기 기록. 쓴 뒤 stickyWindow 동안은 그 사용자의 읽기를 primary 로 보낸다.
+ * stickyWindow 는 복제 지연보다 길게 잡는다.
+ */
+public class ReadYourWrites {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean recentlyWrote(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.wedding.board.datasource;
+
+import com.wedding.board.security.CustomUserDetails;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청 단위 read-your-writes: 최근에 쓴 사용자의 요청은 primary 에 고정하고,
+ * 요청 중에 쓰기 트랜잭션이 있었으면 그 사용자를 기록한다.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesInterceptor(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingDataSource.release();
+        Long userId = currentUserId();
+        if (userId != null && readYourWrites.recentlyWrote(userId)) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Long userId = currentUserId();
+        if (userId != null && ReplicaRoutingDataSource.hasWritten()) {
+            readYourWrites.recordWrite(userId);
+        }
+        ReplicaRoutingDataSource.release();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails) {
+            return ((CustomUserDetails) authentication.getPrincipal()).getId();
+        }
+        return null;
+    }
+}
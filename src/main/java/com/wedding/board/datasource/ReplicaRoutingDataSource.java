@@ -0,0 +1,70 @@
+package com.wedding.board.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖 접근은 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 첫 문장에서 고르도록 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * <p>
+ * 스레드 단위로 primary 에 고정되는 경우:
+ * <ul>
+ *   <li>쓰기 트랜잭션을 실행한 뒤 - 커밋 이후 리스너의 파생 데이터 갱신과 같은 요청의 후속 조회가 복제 지연에 걸리지 않게</li>
+ *   <li>{@link #pinToPrimary()} - 최근에 쓴 사용자의 요청 (ReadYourWritesInterceptor)</li>
+ * </ul>
+ * 웹 요청은 인터셉터가 끝날 때 {@link #release()} 하고, 요청 밖(배치, 테스트)에서는 호출한 쪽이 release 한다.
+ * 라우팅을 켜지 않았으면 이 상태는 아무 데도 쓰이지 않는다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WROTE = new ThreadLocal<>();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            WROTE.set(Boolean.TRUE);
+            return Target.PRIMARY;
+        }
+        return isPinned() || hasWritten() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /** 현재 스레드가 release 이후 쓰기 트랜잭션을 실행했는지 */
+    public static boolean hasWritten() {
+        return WROTE.get() != null;
+    }
+
+    public static void release() {
+        PINNED.remove();
+        WROTE.remove();
+    }
+
+    /** 공유 캐시를 채우는 조회처럼 복제 지연이 오래 남는 읽기는 primary 에서 한다 */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPinned()) {
+            return read.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+}
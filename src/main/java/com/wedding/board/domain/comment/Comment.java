@@ -18,14 +18,26 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
 
+    static final int PATH_SEGMENT_LENGTH = 10;
+    static final int PATH_MAX_LENGTH = 1000;
+    private static final String PATH_SEPARATOR = ".";
+    /** 정렬 순서상 PATH_SEPARATOR 바로 다음 문자. 하위 스레드 path 범위의 상한으로 쓴다 */
+    private static final String PATH_UPPER_BOUND = "/";
+    private static final String PATH_SEGMENT_FORMAT = "%0" + PATH_SEGMENT_LENGTH + "d";
+    /** path 컬럼에 들어가는 가장 깊은 depth: 세그먼트 (depth + 1)개와 구분자 depth 개 */
+    public static final int MAX_DEPTH = (PATH_MAX_LENGTH + PATH_SEPARATOR.length())
+            / (PATH_SEGMENT_LENGTH + PATH_SEPARATOR.length()) - 1;
+
+    /** pooled 시퀀스: persist 시점에 id가 정해져 INSERT를 JDBC batch로 묶을 수 있다 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
@@ -41,6 +53,13 @@ public class Comment {
 
     private boolean deleted = false;
 
+    /** 스레드 정렬용 materialized path: 루트부터 자신까지의 id를 고정폭으로 이어 붙인 값 */
+    @Column(length = PATH_MAX_LENGTH)
+    private String path;
+
+    /** 0=최상위 댓글 */
+    private int depth;
+
     @Transient
     private List<Comment> replies = new ArrayList<>();
 
@@ -49,6 +68,7 @@ public class Comment {
         this.post = post;
         this.author = author;
         this.parent = parent;
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -60,12 +80,19 @@ public class Comment {
         return new Comment(content, post, author, parent);
     }
 
-    public void update(String content) {
-        this.content = content;
+    /** id가 할당된 뒤 호출한다. path 오름차순 정렬이 곧 스레드의 DFS 전위 순서가 된다 */
+    public void materializePath() {
+        String segment = String.format(PATH_SEGMENT_FORMAT, id);
+        this.path = parent == null ? segment : parent.getPath() + PATH_SEPARATOR + segment;
+    }
+
+    /** 하위 스레드(자기 자신 제외)는 path 범위 (subtreeStartPath, subtreeEndPath) 에 있다 */
+    public String subtreeStartPath() {
+        return path + PATH_SEPARATOR;
     }
 
-    public boolean isWrittenBy(Long userId) {
-        return author.getId().equals(userId);
+    public String subtreeEndPath() {
+        return path + PATH_UPPER_BOUND;
     }
 
     public void markAsDeleted() {
@@ -1,22 +1,62 @@
 package com.wedding.board.domain.comment;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
-
-    List<Comment> findByPostIdAndParentIsNullOrderByCreatedAtAsc(Long postId);
-
-    List<Comment> findByParentOrderByCreatedAtAsc(Comment parent);
-
-    void deleteByPostId(Long postId);
-
-    void deleteByParent(Comment parent);
-
-    void deleteByPostIdAndParentIsNotNull(Long postId);
-
-    void deleteByPostIdAndParentIsNull(Long postId);
+    /** 스레드 전체를 path 순서(DFS 전위)로 작성자와 함께 한 번에 조회 */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.post.id, c.path ASC")
+    List<Comment> findThreadByPostId(@Param("postId") Long postId);
+
+    /** 최상위 댓글 keyset 페이지: (post_id, depth, path) 인덱스로 답글을 건너뛰지 않고 루트만 읽는다 */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.depth = 0 AND c.path > :afterPath "
+            + "ORDER BY c.post.id, c.depth, c.path")
+    Slice<Comment> findRootPage(@Param("postId") Long postId, @Param("afterPath") String afterPath, Pageable pageable);
+
+    /** 한 댓글의 하위 스레드를 path 범위 (afterPath, toPath) 에서 DFS 전위 순서로 페이지 조회 */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.path > :afterPath AND c.path < :toPath "
+            + "ORDER BY c.post.id, c.path")
+    Slice<Comment> findSubtreePage(@Param("postId") Long postId, @Param("afterPath") String afterPath,
+                                   @Param("toPath") String toPath, Pageable pageable);
+
+    /**
+     * 루트 path 범위 [fromPath, toPath) 안의 삭제되지 않은 답글 수를 루트별로 센다 (인덱스 범위만 읽는다).
+     * 글의 댓글 수(commentCount)와 같은 기준이다.
+     */
+    @Query("SELECT new com.wedding.board.domain.comment.ReplyCount(SUBSTRING(c.path, 1, " + Comment.PATH_SEGMENT_LENGTH + "), COUNT(c)) "
+            + "FROM Comment c WHERE c.post.id = :postId AND c.path > :fromPath AND c.path < :toPath AND c.depth > 0 "
+            + "AND c.deleted = false "
+            + "GROUP BY SUBSTRING(c.path, 1, " + Comment.PATH_SEGMENT_LENGTH + ")")
+    List<ReplyCount> countRepliesByRoot(@Param("postId") Long postId, @Param("fromPath") String fromPath,
+                                        @Param("toPath") String toPath);
+
+    /** 스레드 내부의 부모 참조를 한 번에 끊는다. 이후 스레드 전체를 self FK 순서와 무관하게 지울 수 있다 */
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = NULL WHERE c.post.id = :postId AND c.parent IS NOT NULL")
+    int detachRepliesByPostId(@Param("postId") Long postId);
+
+    /** detachRepliesByPostId 이후 호출한다. 댓글 수와 무관하게 한 문장으로 삭제 */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteThreadByPostId(@Param("postId") Long postId);
+
+    /** 본인의 삭제되지 않은 댓글만 수정한다. 0건이면 없거나, 다른 글의 댓글이거나, 남의 댓글이거나, 삭제된 댓글이다 */
+    @Modifying
+    @Query("UPDATE Comment c SET c.content = :content "
+            + "WHERE c.id = :id AND c.post.id = :postId AND c.author.id = :authorId AND c.deleted = false")
+    int updateContentByAuthor(@Param("id") Long id, @Param("postId") Long postId,
+                              @Param("authorId") Long authorId, @Param("content") String content);
+
+    /** 본인의 삭제되지 않은 댓글만 삭제 표시한다. 0건의 의미는 updateContentByAuthor 와 같다 */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deleted = true "
+            + "WHERE c.id = :id AND c.post.id = :postId AND c.author.id = :authorId AND c.deleted = false")
+    int markDeletedByAuthor(@Param("id") Long id, @Param("postId") Long postId, @Param("authorId") Long authorId);
 }
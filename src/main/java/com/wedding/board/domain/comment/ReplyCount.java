@@ -0,0 +1,19 @@
+package com.wedding.board.domain.comment;
+
+import lombok.Getter;
+
+/**
+ * 최상위 댓글별 답글(하위 전체) 수 projection.
+ * 루트는 path의 첫 segment로 구분한다.
+ */
+@Getter
+public class ReplyCount {
+
+    private final Long rootId;
+    private final long count;
+
+    public ReplyCount(String rootPath, long count) {
+        this.rootId = Long.valueOf(rootPath);
+        this.count = count;
+    }
+}
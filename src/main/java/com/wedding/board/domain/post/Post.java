@@ -15,12 +15,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
 
+    /** pooled 시퀀스: persist 시점에 id가 정해져 INSERT를 JDBC batch로 묶을 수 있다 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "board_code")
+    @JoinColumn(name = "board_code", nullable = false)
     private Board board;
 
     @Column(nullable = false, length = 200)
@@ -49,6 +51,20 @@ public class Post {
 
     private Integer etcFee;
 
+    /** 예상 총비용 (식대 x 보증인원 + 대관료 + 기타비용). 비용순 정렬/범위 조회를 인덱스로 하기 위해 저장한다 */
+    private Long totalCost;
+
+    /** 마지막 댓글 작성/수정/삭제 시각 (DB에서 댓글 수와 함께 갱신) */
+    private LocalDateTime commentsUpdatedAt;
+
+    /** 삭제되지 않은 댓글 수 (비정규화, DB에서 원자적으로 증감) */
+    @Column(nullable = false)
+    private int commentCount = 0;
+
+    /** 조회수 (PostViewCounter 가 모아서 주기적으로 더한다) */
+    @Column(nullable = false)
+    private long viewCount = 0;
+
     private Post(Board board, String title, String content, User author,
                  String location, Integer mealPrice, Integer guaranteeMin, Integer rentalFee, Integer etcFee) {
         this.board = board;
@@ -60,8 +76,10 @@ public class Post {
         this.guaranteeMin = guaranteeMin;
         this.rentalFee = rentalFee;
         this.etcFee = etcFee;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.totalCost = VenueCost.totalOf(mealPrice, guaranteeMin, rentalFee, etcFee);
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
 
     public static Post create(Board board, String title, String content, User author,
@@ -69,21 +87,16 @@ public class Post {
         return new Post(board, title, content, author, location, mealPrice, guaranteeMin, rentalFee, etcFee);
     }
 
-    public void update(String title, String content, String location, Integer mealPrice,
-                       Integer guaranteeMin, Integer rentalFee, Integer etcFee) {
-        this.title = title;
-        this.content = content;
-        this.location = location;
-        this.mealPrice = mealPrice;
-        this.guaranteeMin = guaranteeMin;
-        this.rentalFee = rentalFee;
-        this.etcFee = etcFee;
-        this.updatedAt = LocalDateTime.now();
+    /** 글 또는 댓글이 마지막으로 바뀐 시각 (상세 화면 조건부 요청의 기준) */
+    public LocalDateTime getLastModifiedAt() {
+        if (commentsUpdatedAt != null && commentsUpdatedAt.isAfter(updatedAt)) {
+            return commentsUpdatedAt;
+        }
+        return updatedAt;
     }
 
-    /** board가 null인 기존 글 호환용 */
     public String getBoardCode() {
-        return board != null ? board.getCode() : "GENERAL";
+        return board.getCode();
     }
 
     public boolean isVenue() {
@@ -1,18 +1,129 @@
 package com.wedding.board.domain.post;
 
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * 목록 조회는 (board_code, created_at, id) 인덱스를 타도록 작성한다.
+ * ORDER BY 선두의 board.code는 등치 조건으로 고정돼 결과에 영향이 없지만, H2가 인덱스 순서로 정렬을 생략하게 한다.
+ */
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.wedding.board.domain.post.PostSummary(p.id, p.board.code, p.title, a.username, p.createdAt, p.commentCount, p.viewCount) "
+            + "FROM Post p JOIN p.author a ";
 
-    Page<Post> findByBoard_CodeOrderByCreatedAtDesc(String boardCode, Pageable pageable);
+    /** keyset 페이징: 첫 페이지 (count 쿼리 없음) */
+    @Query(SUMMARY_SELECT + "WHERE p.board.code = :boardCode ORDER BY p.board.code, p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findSliceByBoardCode(@Param("boardCode") String boardCode, Pageable pageable);
 
-    /** GENERAL: board=GENERAL 또는 board=null(기존 글) 포함 */
-    @Query("SELECT p FROM Post p WHERE p.board.code = :boardCode OR (p.board IS NULL AND :boardCode = 'GENERAL') ORDER BY p.createdAt DESC")
-    Page<Post> findByBoardCodeIncludingLegacy(@Param("boardCode") String boardCode, Pageable pageable);
+    /** keyset 페이징: 커서(createdAt, id)보다 오래된 글 */
+    @Query(SUMMARY_SELECT + "WHERE p.board.code = :boardCode AND p.createdAt <= :createdAt "
+            + "AND (p.createdAt < :createdAt OR p.id < :id) "
+            + "ORDER BY p.board.code, p.createdAt DESC, p.id DESC")
+    Slice<PostSummary> findOlderSliceByBoardCode(@Param("boardCode") String boardCode,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    /** keyset 페이징: 커서(createdAt, id)보다 최신 글 (오름차순, 호출 측에서 뒤집어 사용) */
+    @Query(SUMMARY_SELECT + "WHERE p.board.code = :boardCode AND p.createdAt >= :createdAt "
+            + "AND (p.createdAt > :createdAt OR p.id > :id) "
+            + "ORDER BY p.board.code, p.createdAt ASC, p.id ASC")
+    Slice<PostSummary> findNewerSliceByBoardCode(@Param("boardCode") String boardCode,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    /** 검색 결과 페이지: 색인이 고른 id들만 조회 (순서는 호출 측에서 맞춘다) */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 검색 색인 구축용: id 순 keyset 배치 */
+    @Query("SELECT p FROM Post p WHERE p.id > :afterId ORDER BY p.id")
+    List<Post> findIndexBatchAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    String VENUE_SELECT = "SELECT new com.wedding.board.domain.post.VenueSummary(p.id, p.title, a.username, p.createdAt, "
+            + "p.commentCount, p.location, p.mealPrice, p.guaranteeMin, p.totalCost) FROM Post p JOIN p.author a ";
+
+    /** 예식장 비용 조건. null인 조건은 적용하지 않는다 (인덱스 조건이 아닌 잔여 필터) */
+    String VENUE_FILTER = "AND (:mealPriceMin IS NULL OR p.mealPrice >= :mealPriceMin) "
+            + "AND (:mealPriceMax IS NULL OR p.mealPrice <= :mealPriceMax) "
+            + "AND (:guaranteeMax IS NULL OR p.guaranteeMin <= :guaranteeMax) ";
+
+    /**
+     * 예식장 비용순 keyset 조회: (board_code, total_cost, id) 인덱스에서 총비용 범위만 읽는다.
+     * 첫 페이지는 totalCost=Long.MIN_VALUE, id=0 커서로 호출한다.
+     */
+    @Query(VENUE_SELECT + "WHERE p.board.code = :boardCode AND p.totalCost >= :totalCost AND p.totalCost <= :totalCostMax "
+            + "AND (p.totalCost > :totalCost OR p.id > :id) " + VENUE_FILTER
+            + "ORDER BY p.board.code, p.totalCost, p.id")
+    Slice<VenueSummary> findVenuesByTotalCost(@Param("boardCode") String boardCode,
+                                              @Param("totalCost") Long totalCost,
+                                              @Param("id") Long id,
+                                              @Param("totalCostMax") Long totalCostMax,
+                                              @Param("mealPriceMin") Integer mealPriceMin,
+                                              @Param("mealPriceMax") Integer mealPriceMax,
+                                              @Param("guaranteeMax") Integer guaranteeMax,
+                                              Pageable pageable);
+
+    /**
+     * 예식장 최신순 keyset 조회: 목록과 같은 (board_code, created_at, id) 인덱스를 타고 조건은 걸러낸다.
+     * 첫 페이지는 가장 먼 미래 시각 커서로 호출한다.
+     */
+    @Query(VENUE_SELECT + "WHERE p.board.code = :boardCode AND p.createdAt <= :createdAt "
+            + "AND (p.createdAt < :createdAt OR p.id < :id) " + VENUE_FILTER
+            + "AND (:totalCostMax IS NULL OR p.totalCost <= :totalCostMax) "
+            + "ORDER BY p.board.code, p.createdAt DESC, p.id DESC")
+    Slice<VenueSummary> findVenuesByLatest(@Param("boardCode") String boardCode,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           @Param("totalCostMax") Long totalCostMax,
+                                           @Param("mealPriceMin") Integer mealPriceMin,
+                                           @Param("mealPriceMax") Integer mealPriceMax,
+                                           @Param("guaranteeMax") Integer guaranteeMax,
+                                           Pageable pageable);
+
+    /** 예식장 비용 통계 초기 적재용 (비용 컬럼만) */
+    @Query("SELECT new com.wedding.board.domain.post.VenueCost(p.id, p.mealPrice, p.guaranteeMin, p.rentalFee, p.etcFee) "
+            + "FROM Post p WHERE p.board.code = :boardCode")
+    List<VenueCost> findVenueCostsByBoardCode(@Param("boardCode") String boardCode);
+
+    /**
+     * 댓글 수를 DB에서 직접 증감해 동시 작성에도 유실되지 않게 한다. 댓글 변경 시각도 함께 기록한다.
+     * 게시판까지 조건에 넣어 0건이면 해당 게시판에 없는 글이다 (게시글을 따로 조회하지 않는다)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta, p.commentsUpdatedAt = :changedAt "
+            + "WHERE p.id = :id AND p.board.code = :boardCode")
+    int adjustCommentCount(@Param("id") Long id, @Param("boardCode") String boardCode,
+                           @Param("delta") int delta, @Param("changedAt") LocalDateTime changedAt);
+
+    /** 댓글 수정처럼 수는 그대로인 변경의 시각만 기록한다 (상세 화면 ETag/Last-Modified 용) */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentsUpdatedAt = :changedAt WHERE p.id = :id")
+    int markCommentsUpdated(@Param("id") Long id, @Param("changedAt") LocalDateTime changedAt);
+
+    /** 글 수정을 조회 없이 한 문장으로 반영한다. 0건이면 해당 게시판에 없는 글이다 */
+    @Modifying
+    @Query("UPDATE Post p SET p.title = :title, p.content = :content, p.location = :location, "
+            + "p.mealPrice = :mealPrice, p.guaranteeMin = :guaranteeMin, p.rentalFee = :rentalFee, p.etcFee = :etcFee, "
+            + "p.totalCost = :totalCost, p.updatedAt = :updatedAt WHERE p.id = :id AND p.board.code = :boardCode")
+    int updateContent(@Param("id") Long id, @Param("boardCode") String boardCode,
+                      @Param("title") String title, @Param("content") String content,
+                      @Param("location") String location, @Param("mealPrice") Integer mealPrice,
+                      @Param("guaranteeMin") Integer guaranteeMin, @Param("rentalFee") Integer rentalFee,
+                      @Param("etcFee") Integer etcFee, @Param("totalCost") Long totalCost,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /** 글을 읽지 않고 게시판 조건을 건 DELETE 한 문장으로 지운다. 0건이면 해당 게시판에 없는 글이다 */
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id = :id AND p.board.code = :boardCode")
+    int deleteByIdAndBoardCode(@Param("id") Long id, @Param("boardCode") String boardCode);
 }
@@ -0,0 +1,31 @@
+package com.wedding.board.domain.post;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 목록 화면용 읽기 전용 projection.
+ * 작성자/게시판을 조인해 한 번의 쿼리로 조회하며 영속성 컨텍스트에 올라가지 않는다.
+ */
+@Getter
+public class PostSummary {
+
+    private final Long id;
+    private final String boardCode;
+    private final String title;
+    private final String authorUsername;
+    private final LocalDateTime createdAt;
+    private final int commentCount;
+    private final long viewCount;
+
+    public PostSummary(Long id, String boardCode, String title, String authorUsername, LocalDateTime createdAt,
+                       int commentCount, long viewCount) {
+        this.id = id;
+        this.boardCode = boardCode;
+        this.title = title;
+        this.authorUsername = authorUsername;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+        this.viewCount = viewCount;
+    }
+}
@@ -0,0 +1,51 @@
+package com.wedding.board.domain.post;
+
+import lombok.Getter;
+
+/**
+ * 예식장 글의 비용 항목만 담은 읽기 전용 projection.
+ */
+@Getter
+public class VenueCost {
+
+    private final Long postId;
+    private final Integer mealPrice;
+    private final Integer guaranteeMin;
+    private final Integer rentalFee;
+    private final Integer etcFee;
+
+    public VenueCost(Long postId, Integer mealPrice, Integer guaranteeMin, Integer rentalFee, Integer etcFee) {
+        this.postId = postId;
+        this.mealPrice = mealPrice;
+        this.guaranteeMin = guaranteeMin;
+        this.rentalFee = rentalFee;
+        this.etcFee = etcFee;
+    }
+
+    public static VenueCost of(Post post) {
+        return new VenueCost(post.getId(), post.getMealPrice(), post.getGuaranteeMin(), post.getRentalFee(),
+                post.getEtcFee());
+    }
+
+    public Long getTotalCost() {
+        return totalOf(mealPrice, guaranteeMin, rentalFee, etcFee);
+    }
+
+    /**
+     * 총비용 = 식대 x 보증인원 + 대관료 + 기타비용.
+     * 식대나 보증인원이 없으면 계산하지 않고(null), 대관료/기타비용이 없으면 0으로 본다.
+     */
+    public static Long totalOf(Integer mealPrice, Integer guaranteeMin, Integer rentalFee, Integer etcFee) {
+        if (mealPrice == null || guaranteeMin == null) {
+            return null;
+        }
+        long total = (long) mealPrice * guaranteeMin;
+        if (rentalFee != null) {
+            total += rentalFee;
+        }
+        if (etcFee != null) {
+            total += etcFee;
+        }
+        return total;
+    }
+}
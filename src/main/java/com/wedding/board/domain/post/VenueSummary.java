@@ -0,0 +1,34 @@
+package com.wedding.board.domain.post;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 예식장 필터/비용순 목록용 읽기 전용 projection.
+ */
+@Getter
+public class VenueSummary {
+
+    private final Long id;
+    private final String title;
+    private final String authorUsername;
+    private final LocalDateTime createdAt;
+    private final int commentCount;
+    private final String location;
+    private final Integer mealPrice;
+    private final Integer guaranteeMin;
+    private final Long totalCost;
+
+    public VenueSummary(Long id, String title, String authorUsername, LocalDateTime createdAt, int commentCount,
+                        String location, Integer mealPrice, Integer guaranteeMin, Long totalCost) {
+        this.id = id;
+        this.title = title;
+        this.authorUsername = authorUsername;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+        this.location = location;
+        this.mealPrice = mealPrice;
+        this.guaranteeMin = guaranteeMin;
+        this.totalCost = totalCost;
+    }
+}
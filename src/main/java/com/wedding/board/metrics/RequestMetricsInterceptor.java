@@ -0,0 +1,78 @@
+package com.wedding.board.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 요청별 SQL 문장 수(board.http.sql.statements)와 템플릿 렌더링 시간(board.view.render)을 기록한다.
+ * 실행된 SQL 은 요청 속성 STATEMENTS_ATTRIBUTE 에 남긴다 (테스트의 SQL 예산 검증용).
+ * 렌더링 시간은 postHandle(뷰 렌더링 직전)부터 afterCompletion 까지이고, open-in-view 로 렌더링 중 일어나는
+ * 지연 로딩 쿼리도 포함된다. 요청 전체 지연시간은 Spring MVC 의 http.server.requests 를 본다.
+ */
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    public static final String STATEMENTS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".statements";
+
+    static final String SQL_STATEMENTS = "board.http.sql.statements";
+    static final String VIEW_RENDER = "board.view.render";
+
+    private static final String RENDER_START = RequestMetricsInterceptor.class.getName() + ".renderStart";
+    private static final String VIEW_NAME = RequestMetricsInterceptor.class.getName() + ".viewName";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && modelAndView.getViewName() != null
+                && !modelAndView.getViewName().startsWith("redirect:")) {
+            request.setAttribute(VIEW_NAME, modelAndView.getViewName());
+            request.setAttribute(RENDER_START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object renderStart = request.getAttribute(RENDER_START);
+        if (renderStart != null) {
+            Timer.builder(VIEW_RENDER)
+                    .description("Thymeleaf 뷰 렌더링 시간")
+                    .tag("view", (String) request.getAttribute(VIEW_NAME))
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - (Long) renderStart, TimeUnit.NANOSECONDS);
+        }
+        List<String> statements = SqlStatementCounter.stop();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+        DistributionSummary.builder(SQL_STATEMENTS)
+                .description("요청 한 건이 실행한 SQL 문장 수")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .register(meterRegistry)
+                .record(statements.size());
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
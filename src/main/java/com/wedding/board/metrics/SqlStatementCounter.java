@@ -0,0 +1,42 @@
+package com.wedding.board.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 SQL 문장 집계 (Hibernate StatementInspector).
+ * start() 한 스레드에서 Hibernate 가 준비하는 문장만 모은다. 요청은 한 스레드에서 처리되므로
+ * RequestMetricsInterceptor 가 요청 시작/끝에 start/stop 한다.
+ * 설정: spring.jpa.properties.hibernate.session_factory.statement_inspector
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /** start() 이후 모은 문장 수, 집계 중이 아니면 0 */
+    public static int count() {
+        List<String> statements = STATEMENTS.get();
+        return statements == null ? 0 : statements.size();
+    }
+
+    /** 집계를 끝내고 모은 문장을 실행 순서대로 돌려준다 */
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+}
@@ -9,31 +9,57 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 인증 principal. JPA 엔티티 대신 id/username/role 값만 가지는 불변 객체라
+ * 세션 직렬화가 가볍고 영속성 컨텍스트와 무관하다.
+ * 비밀번호 해시는 로그인 검증에만 쓰고 세션에 저장되는 principal 에서는 뺀다 (withoutPassword).
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final UserRole role;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    private CustomUserDetails(Long id, String username, String password, UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+    }
+
+    /** 세션 저장용 사본 */
+    public CustomUserDetails withoutPassword() {
+        return new CustomUserDetails(id, username, null, role);
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
+    }
+
+    public UserRole getRole() {
+        return role;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -0,0 +1,32 @@
+package com.wedding.board.security;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 사용자 조회는 UserDetailsCache 를 거치고, 인증 결과에는 비밀번호를 뺀 principal 을 담는다.
+ * 캐시에 든 CustomUserDetails 는 불변이라 인증 후 credentials 를 지워도 캐시 항목은 그대로다.
+ */
+public class SessionPrincipalAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public SessionPrincipalAuthenticationProvider(UserDetailsService userDetailsService,
+                                                  PasswordEncoder passwordEncoder,
+                                                  UserCache userCache) {
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+        setUserCache(userCache);
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        Object sessionPrincipal = principal instanceof CustomUserDetails
+                ? ((CustomUserDetails) principal).withoutPassword()
+                : principal;
+        return super.createSuccessAuthentication(sessionPrincipal, authentication, user);
+    }
+}
@@ -0,0 +1,58 @@
+package com.wedding.board.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시 사용자 조회 캐시 (username 기준).
+ * 크기/TTL로 제한한다. 사용자 정보(비밀번호, 권한)를 바꾸는 곳에서는 evict 를 호출해야 한다.
+ * 캐시된 비밀번호가 맞지 않으면 DaoAuthenticationProvider 가 DB 에서 한 번 더 읽어 확인한다.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+
+    static final String CACHE_NAME = "userDetails";
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${board.user-cache.maximum-size:1000}") long maximumSize,
+                            @Value("${board.user-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    public void evict(String username) {
+        removeUserFromCache(username);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -1,6 +1,7 @@
 package com.wedding.board.web;
 
 import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CommentPage;
 import com.wedding.board.application.comment.CreateCommentCommand;
 import com.wedding.board.application.comment.UpdateCommentCommand;
 import com.wedding.board.application.post.PostApplicationService;
@@ -16,6 +17,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -34,9 +36,54 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequiredArgsConstructor
 public class CommentController {
 
+    /** 댓글 수가 이보다 많은 글은 최상위 댓글만 페이지 단위로 보여주고 답글은 펼칠 때 읽는다 */
+    static final int LAZY_THREAD_THRESHOLD = 200;
+    static final int ROOT_PAGE_SIZE = 20;
+    static final int REPLY_PAGE_SIZE = 50;
+
     private final CommentApplicationService commentApplicationService;
     private final PostApplicationService postApplicationService;
 
+    /** 최상위 댓글 다음 페이지 (HTML fragment, ajax.js 에서 호출) */
+    @GetMapping
+    public String roots(
+            @PathVariable String boardCode,
+            @PathVariable Long postId,
+            @RequestParam(required = false) String after,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            Model model) {
+        CommentPage page = commentApplicationService.getRootComments(postId, after, ROOT_PAGE_SIZE);
+        addFragmentAttributes(model, boardCode, postId, userDetails);
+        model.addAttribute("page", page);
+        model.addAttribute("replyCounts", page.getReplyCounts());
+        return "fragments/comment-page :: roots";
+    }
+
+    /** 접힌 답글 스레드 한 페이지 (HTML fragment, DFS 순서로 평평하게 들여쓴다) */
+    @GetMapping("/{commentId}/replies")
+    public String replies(
+            @PathVariable String boardCode,
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String after,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            Model model) {
+        CommentPage page = commentApplicationService.getReplies(postId, commentId, after, REPLY_PAGE_SIZE);
+        addFragmentAttributes(model, boardCode, postId, userDetails);
+        model.addAttribute("page", page);
+        model.addAttribute("parentId", commentId);
+        return "fragments/comment-page :: replies";
+    }
+
+    private void addFragmentAttributes(Model model, String boardCode, Long postId, CustomUserDetails userDetails) {
+        model.addAttribute("boardCode", boardCode);
+        model.addAttribute("post", postApplicationService.getPost(postId));
+        model.addAttribute("editCommentId", (Long) null);
+        if (userDetails != null) {
+            model.addAttribute("currentUserId", userDetails.getId());
+        }
+    }
+
     @PostMapping
     public String create(
             @PathVariable String boardCode,
@@ -52,8 +99,7 @@ public class CommentController {
             model.addAttribute("post", post);
             model.addAttribute("comments", comments);
             model.addAttribute("commentForm", commentForm);
-            int commentCount = countCommentsRecursive(comments);
-            model.addAttribute("commentCount", commentCount);
+            model.addAttribute("commentCount", post.getCommentCount());
             model.addAttribute("currentUserId", userDetails.getId());
             if (commentForm.getParentId() != null) {
                 model.addAttribute("expandReplyFormId", commentForm.getParentId());
@@ -68,18 +114,10 @@ public class CommentController {
                 userDetails.getId(),
                 commentForm.getParentId()
         );
-        commentApplicationService.createComment(command);
+        commentApplicationService.createComment(boardCode, command);
         return "redirect:/boards/" + boardCode + "/posts/" + postId + "#comments";
     }
 
-    private int countCommentsRecursive(java.util.List<Comment> comments) {
-        int count = 0;
-        for (Comment c : comments) {
-            count += 1 + countCommentsRecursive(c.getReplies());
-        }
-        return count;
-    }
-
     @PutMapping(value = "/{commentId}", produces = "application/json")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> update(
@@ -95,6 +133,7 @@ public class CommentController {
             return ResponseEntity.badRequest().body(err);
         }
         commentApplicationService.updateComment(
+                postId,
                 commentId,
                 new UpdateCommentCommand(commentForm.getContent()),
                 userDetails.getId()
@@ -112,7 +151,7 @@ public class CommentController {
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        commentApplicationService.deleteComment(commentId, userDetails.getId());
+        commentApplicationService.deleteComment(boardCode, postId, commentId, userDetails.getId());
         Map<String, Object> body = new HashMap<>();
         body.put("success", true);
         return ResponseEntity.ok(body);
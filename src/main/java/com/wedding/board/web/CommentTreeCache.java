@@ -0,0 +1,168 @@
+package com.wedding.board.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wedding.board.application.comment.CommentsChangedEvent;
+import com.wedding.board.application.post.PostChangedEvent;
+import com.wedding.board.domain.comment.Comment;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.security.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+/**
+ * 상세 화면 댓글 트리(fragments/comment-tree :: tree)의 렌더링 결과 캐시.
+ * 키는 게시글 id와 댓글 스레드 버전(댓글 변경 시각, 댓글 수), 로그인 여부이고 보는 사람과 무관한 HTML만 담는다.
+ * CSRF 토큰은 자리표시자로 저장했다가 꺼낼 때 현재 토큰으로 바꾼다.
+ * 본인 댓글의 수정/삭제 버튼은 HTML에 넣지 않고, 화면에서 작성자 id(data-author-id)를 보고 app.js 가 붙인다.
+ * 조회와 렌더링은 캐시의 잠금 밖에서 하고 결과만 넣는다 (같은 키를 동시에 채우면 먼저 넣은 것을 쓴다).
+ * 댓글이 바뀌면 커밋 이후 그 글의 항목을 비운다. hit/miss 는 cache.* 메트릭(cache=commentTree).
+ */
+@Component
+public class CommentTreeCache {
+
+    static final String CACHE_NAME = "commentTree";
+    static final String VIEW_NAME = "fragments/comment-tree :: tree";
+
+    private static final String CSRF_PLACEHOLDER = "__comment_tree_csrf__";
+
+    private final Cache<Key, String> cache;
+    private final ThymeleafViewResolver viewResolver;
+
+    public CommentTreeCache(@Value("${board.comment-tree-cache.maximum-weight:20000000}") long maximumWeight,
+                            @Value("${board.comment-tree-cache.expire-after-access:10m}") Duration expireAfterAccess,
+                            ThymeleafViewResolver viewResolver,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, String html) -> html.length())
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        this.viewResolver = viewResolver;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 현재 CSRF 토큰을 넣은 댓글 트리 HTML. 없으면 loader 로 댓글을 읽어 렌더링한 뒤 저장한다 */
+    public String get(String boardCode, Post post, CustomUserDetails viewer, ServletWebRequest request,
+                      Supplier<List<Comment>> loader) {
+        CsrfToken csrf = (CsrfToken) request.getAttribute(CsrfToken.class.getName(), RequestAttributes.SCOPE_REQUEST);
+        Key key = new Key(post.getId(), boardCode, post.getCommentsUpdatedAt(), post.getCommentCount(), viewer != null);
+        String html = cache.getIfPresent(key);
+        if (html == null) {
+            // 렌더링 중에는 같은 해시 구간의 다른 키까지 막히지 않도록 compute 밖에서 만든다
+            html = render(boardCode, post, loader.get(), request, csrf);
+            String raced = cache.asMap().putIfAbsent(key, html);
+            if (raced != null) {
+                html = raced;
+            }
+        }
+        return html.replace(CSRF_PLACEHOLDER, csrf == null ? "" : csrf.getToken());
+    }
+
+    public void evictPost(Long postId) {
+        cache.asMap().keySet().removeIf(key -> key.postId.equals(postId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsChanged(CommentsChangedEvent event) {
+        evictPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChange() == PostChangedEvent.Change.DELETED) {
+            evictPost(event.getPostId());
+        }
+    }
+
+    private String render(String boardCode, Post post, List<Comment> comments, ServletWebRequest request,
+                          CsrfToken csrf) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("boardCode", boardCode);
+        model.put("post", post);
+        model.put("comments", comments);
+        model.put("ownerOverlay", true);
+        StringWriter out = new StringWriter();
+        try {
+            View view = viewResolver.resolveViewName(VIEW_NAME, Locale.getDefault());
+            view.render(model, request.getRequest(), new CapturingResponse(request.getResponse(), out));
+        } catch (Exception e) {
+            throw new IllegalStateException("댓글 트리를 렌더링하지 못했습니다: " + post.getId(), e);
+        }
+        String html = out.toString();
+        return csrf == null ? html : html.replace(csrf.getToken(), CSRF_PLACEHOLDER);
+    }
+
+    /** 렌더링 결과를 실제 응답 대신 문자열로 받는다 (헤더/콘텐츠 타입은 건드리지 않는다) */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final PrintWriter writer;
+
+        private CapturingResponse(HttpServletResponse response, StringWriter out) {
+            super(response);
+            this.writer = new PrintWriter(out);
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+        }
+
+        @Override
+        public void flushBuffer() {
+            writer.flush();
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final Long postId;
+        private final String boardCode;
+        private final LocalDateTime commentsUpdatedAt;
+        private final int commentCount;
+        private final boolean authenticated;
+
+        private Key(Long postId, String boardCode, LocalDateTime commentsUpdatedAt, int commentCount,
+                    boolean authenticated) {
+            this.postId = postId;
+            this.boardCode = boardCode;
+            this.commentsUpdatedAt = commentsUpdatedAt;
+            this.commentCount = commentCount;
+            this.authenticated = authenticated;
+        }
+    }
+}
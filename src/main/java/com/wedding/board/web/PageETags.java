@@ -0,0 +1,58 @@
+package com.wedding.board.web;
+
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.security.CustomUserDetails;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 화면 조건부 요청(ETag / Last-Modified) 처리.
+ * 같은 데이터라도 로그인 사용자와 layout에 심는 CSRF 토큰에 따라 HTML이 달라지므로 둘 다 ETag에 섞는다.
+ * Spring Security의 기본 no-store 헤더 대신 매번 재검증하는 private 캐시로 둔다.
+ */
+final class PageETags {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private PageETags() {
+    }
+
+    /** 상세 화면: 글 수정 시각과 마지막 댓글 변경 시각이 버전이다 */
+    static boolean detailNotModified(ServletWebRequest request, Post post, CustomUserDetails user) {
+        String etag = "\"" + hash(request, user, post.getId(), post.getUpdatedAt(), post.getCommentsUpdatedAt(),
+                post.getCommentCount()) + "\"";
+        long lastModified = post.getLastModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return notModified(request, etag, lastModified);
+    }
+
+    /**
+     * 목록 화면: 게시판의 마지막 쓰기 버전과 "지금 인기" 순위 버전이 기준이다 (조건/커서는 URL에 있으므로 제외).
+     * 순위는 다른 글의 댓글/조회로도 바뀌므로 쓰기 버전과 따로 섞는다.
+     */
+    static boolean listNotModified(ServletWebRequest request, String boardVersion, long rankingVersion,
+                                   CustomUserDetails user) {
+        return notModified(request, "W/\"" + hash(request, user, boardVersion, rankingVersion) + "\"", -1);
+    }
+
+    private static boolean notModified(ServletWebRequest request, String etag, long lastModified) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader("Cache-Control", CACHE_CONTROL);
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    private static String hash(ServletWebRequest request, CustomUserDetails user, Object... version) {
+        CsrfToken csrf = (CsrfToken) request.getAttribute(CsrfToken.class.getName(), RequestAttributes.SCOPE_REQUEST);
+        StringBuilder raw = new StringBuilder();
+        for (Object part : version) {
+            raw.append(part).append('|');
+        }
+        raw.append(user != null ? user.getId() : "anonymous").append('|');
+        raw.append(csrf != null ? csrf.getToken() : "");
+        return DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,19 +1,26 @@
 package com.wedding.board.web;
 
 import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CommentPage;
+import com.wedding.board.application.post.BoardVersions;
 import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.HotPostRanking;
 import java.util.List;
 import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.application.post.PostSlice;
+import com.wedding.board.application.post.PostViewCounter;
 import com.wedding.board.application.post.UpdatePostCommand;
+import com.wedding.board.application.search.PostSearchService;
+import com.wedding.board.application.venue.VenueCostStatistics;
+import com.wedding.board.application.venue.VenueQueryService;
 import com.wedding.board.domain.comment.Comment;
 import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostSummary;
 import com.wedding.board.security.CustomUserDetails;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -21,6 +28,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,34 +38,104 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int PAGE_SIZE = 10;
+
     private final PostApplicationService postApplicationService;
     private final CommentApplicationService commentApplicationService;
+    private final PostSearchService postSearchService;
+    private final VenueCostStatistics venueCostStatistics;
+    private final VenueQueryService venueQueryService;
+    private final BoardVersions boardVersions;
+    private final CommentTreeCache commentTreeCache;
+    private final PostViewCounter postViewCounter;
+    private final HotPostRanking hotPostRanking;
 
     @GetMapping
     public String list(
             @PathVariable String boardCode,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @ModelAttribute("venueFilter") VenueFilterForm venueFilter,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            ServletWebRequest webRequest,
             Model model) {
-        Page<Post> posts = postApplicationService.getPosts(boardCode, pageable);
+        if (PageETags.listNotModified(webRequest, boardVersions.current(boardCode),
+                hotPostRanking.version(boardCode), userDetails)) {
+            return null;
+        }
         model.addAttribute("boardCode", boardCode);
+        model.addAttribute("hotPosts", hotPostRanking.top(boardCode));
+        if (VenueCostStatistics.VENUE_BOARD_CODE.equals(boardCode)) {
+            model.addAttribute("venueStats", venueCostStatistics.getSummary());
+            if (venueFilter.isActive()) {
+                model.addAttribute("venues", venueQueryService.getVenues(venueFilter.toFilter(), after, PAGE_SIZE));
+                return "posts/list";
+            }
+        }
+        PostSlice posts = postApplicationService.getPosts(boardCode, after, before, PAGE_SIZE);
         model.addAttribute("posts", posts);
         return "posts/list";
     }
 
+    /** 예식장 비용 통계 (쓰기 시점에 갱신된 스냅샷) */
+    @GetMapping(value = "/stats", produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> stats(@PathVariable String boardCode) {
+        Map<String, Object> body = new HashMap<>();
+        if (!VenueCostStatistics.VENUE_BOARD_CODE.equals(boardCode)) {
+            body.put("success", false);
+            body.put("message", "비용 통계는 예식장 게시판에서만 제공합니다");
+            return ResponseEntity.badRequest().body(body);
+        }
+        body.put("success", true);
+        body.put("stats", venueCostStatistics.getSummary());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/search")
+    public String search(
+            @PathVariable String boardCode,
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(defaultValue = "0") int page,
+            Model model) {
+        Page<PostSummary> results = postSearchService.search(boardCode, query, PageRequest.of(Math.max(page, 0), PAGE_SIZE));
+        model.addAttribute("boardCode", boardCode);
+        model.addAttribute("query", query);
+        model.addAttribute("results", results);
+        return "posts/search";
+    }
+
     @GetMapping("/{id}")
     public String detail(
             @PathVariable String boardCode,
             @PathVariable Long id,
             @RequestParam(required = false) Long editComment,
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            ServletWebRequest webRequest,
             Model model) {
         Post post = postApplicationService.getPost(id);
-        List<Comment> comments = commentApplicationService.getCommentsByPostId(id);
-        int commentCount = countCommentsRecursive(comments);
+        // 조회수는 메모리에서만 올리고 주기적으로 모아서 반영한다 (304 응답도 조회로 센다)
+        postViewCounter.increment(id);
+        // 바뀐 것이 없으면 댓글 트리 조회와 템플릿 렌더링 없이 304로 끝낸다
+        if (PageETags.detailNotModified(webRequest, post, userDetails)) {
+            return null;
+        }
         model.addAttribute("boardCode", boardCode);
         model.addAttribute("post", post);
-        model.addAttribute("comments", comments);
-        model.addAttribute("commentCount", commentCount);
+        if (post.getCommentCount() > CommentController.LAZY_THREAD_THRESHOLD) {
+            CommentPage commentPage = commentApplicationService.getRootComments(id, null, CommentController.ROOT_PAGE_SIZE);
+            model.addAttribute("commentPage", commentPage);
+            model.addAttribute("replyCounts", commentPage.getReplyCounts());
+        } else if (editComment == null) {
+            // 댓글 트리는 렌더링된 HTML을 재사용하고 보는 사람별 부분만 덧씌운다
+            model.addAttribute("commentTreeHtml", commentTreeCache.get(boardCode, post, userDetails, webRequest,
+                    () -> commentApplicationService.getCommentsByPostId(id)));
+        } else {
+            List<Comment> comments = commentApplicationService.getCommentsByPostId(id);
+            model.addAttribute("comments", comments);
+        }
+        model.addAttribute("commentCount", post.getCommentCount());
+        model.addAttribute("viewCount", post.getViewCount() + postViewCounter.pending(id));
         model.addAttribute("commentForm", new CommentForm());
         model.addAttribute("editCommentId", editComment);
         if (editComment != null) {
@@ -72,14 +150,6 @@ public class PostController {
         return "posts/detail";
     }
 
-    private int countCommentsRecursive(java.util.List<Comment> comments) {
-        int count = 0;
-        for (Comment c : comments) {
-            count += 1 + countCommentsRecursive(c.getReplies());
-        }
-        return count;
-    }
-
     @GetMapping("/new")
     public String createForm(@PathVariable String boardCode, Model model) {
         PostForm form = new PostForm();
@@ -161,7 +231,7 @@ public class PostController {
                 postForm.getRentalFee(),
                 postForm.getEtcFee()
         );
-        postApplicationService.updatePost(id, command);
+        postApplicationService.updatePost(boardCode, id, command);
         Map<String, Object> body = new HashMap<>();
         body.put("success", true);
         body.put("id", id);
@@ -173,7 +243,7 @@ public class PostController {
     public ResponseEntity<Map<String, Object>> delete(
             @PathVariable String boardCode,
             @PathVariable Long id) {
-        postApplicationService.deletePost(id);
+        postApplicationService.deletePost(boardCode, id);
         Map<String, Object> body = new HashMap<>();
         body.put("success", true);
         return ResponseEntity.ok(body);
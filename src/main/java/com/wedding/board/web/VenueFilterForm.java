@@ -0,0 +1,34 @@
+package com.wedding.board.web;
+
+import com.wedding.board.application.venue.VenueFilter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 예식장 목록 필터 (쿼리 파라미터) */
+@Getter
+@Setter
+@NoArgsConstructor
+public class VenueFilterForm {
+
+    private Integer mealPriceMin;
+    private Integer mealPriceMax;
+    private Integer guaranteeMax;
+    private Long totalCostMax;
+    private String sort;  // "cost"면 총비용순, 그 외 최신순
+
+    /** 조건이나 비용순 정렬이 하나라도 있으면 필터 목록으로 조회한다 */
+    public boolean isActive() {
+        return mealPriceMin != null || mealPriceMax != null || guaranteeMax != null || totalCostMax != null
+                || isCostSort();
+    }
+
+    public boolean isCostSort() {
+        return "cost".equals(sort);
+    }
+
+    public VenueFilter toFilter() {
+        return VenueFilter.of(mealPriceMin, mealPriceMax, guaranteeMax, totalCostMax,
+                isCostSort() ? VenueFilter.Sort.TOTAL_COST : VenueFilter.Sort.LATEST);
+    }
+}
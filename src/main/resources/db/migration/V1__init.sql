@@ -0,0 +1,71 @@
+-- 초기 스키마. 인덱스는 PostRepository / CommentRepository 의 조회 경로에 맞춘다.
+-- H2는 FK 추가 시 컬럼이 정확히 같은 기존 인덱스가 있으면 재사용하므로 인덱스를 FK보다 먼저 만든다.
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(50)  NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(20)  NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE boards (
+    code VARCHAR(20)  NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT pk_boards PRIMARY KEY (code)
+);
+
+-- board 없는 기존 글을 GENERAL로 취급하던 OR 조건은 인덱스를 쓰지 못하므로 board_code를 필수로 둔다.
+CREATE TABLE posts (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    board_code    VARCHAR(20)  NOT NULL,
+    title         VARCHAR(200) NOT NULL,
+    content       TEXT         NOT NULL,
+    author_id     BIGINT       NOT NULL,
+    created_at    TIMESTAMP,
+    updated_at    TIMESTAMP,
+    location      VARCHAR(200),
+    meal_price    INTEGER,
+    guarantee_min INTEGER,
+    rental_fee    INTEGER,
+    etc_fee       INTEGER,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_posts PRIMARY KEY (id)
+);
+
+-- 목록(최신순) keyset/offset 조회와 게시판별 count
+CREATE INDEX idx_posts_board_created_desc ON posts (board_code, created_at DESC, id DESC);
+-- 목록 '이전' 페이지 조회 (오름차순 seek)
+CREATE INDEX idx_posts_board_created_asc ON posts (board_code, created_at, id);
+CREATE INDEX idx_posts_author ON posts (author_id);
+-- FK용 단일 컬럼 인덱스. H2는 조인 쿼리에서 FK 인덱스를 먼저 고른 뒤 정렬 방향이 다를 때만
+-- 정렬 인덱스로 바꾸므로, DESC로 두어 위 복합 인덱스로 교체되게 한다.
+CREATE INDEX idx_posts_board ON posts (board_code DESC);
+
+ALTER TABLE posts ADD CONSTRAINT fk_posts_board FOREIGN KEY (board_code) REFERENCES boards (code);
+ALTER TABLE posts ADD CONSTRAINT fk_posts_author FOREIGN KEY (author_id) REFERENCES users (id);
+
+CREATE TABLE comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    post_id    BIGINT        NOT NULL,
+    parent_id  BIGINT,
+    author_id  BIGINT        NOT NULL,
+    content    TEXT          NOT NULL,
+    created_at TIMESTAMP,
+    deleted    BOOLEAN       NOT NULL DEFAULT FALSE,
+    path       VARCHAR(1000),
+    depth      INTEGER       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_comments PRIMARY KEY (id)
+);
+
+-- 스레드 전체 조회 (post_id 고정, path 순서 = DFS 전위) 및 게시글 단위 삭제
+CREATE INDEX idx_comments_post_path ON comments (post_id, path);
+CREATE INDEX idx_comments_parent ON comments (parent_id);
+-- idx_posts_board 와 같은 이유로 DESC
+CREATE INDEX idx_comments_post ON comments (post_id DESC);
+CREATE INDEX idx_comments_author ON comments (author_id);
+
+ALTER TABLE comments ADD CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id);
+ALTER TABLE comments ADD CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id);
+ALTER TABLE comments ADD CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id);
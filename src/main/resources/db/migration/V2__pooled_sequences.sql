@@ -0,0 +1,13 @@
+-- posts/comments id를 IDENTITY에서 시퀀스로 전환한다.
+-- IDENTITY는 INSERT 해야 id를 알 수 있어 Hibernate가 JDBC batch를 쓰지 못한다.
+-- INCREMENT BY 는 엔티티의 allocationSize(pooled optimizer)와 같아야 한다.
+-- pooled optimizer 는 nextval 값 N을 블록의 끝으로 보고 N-49..N 을 나눠 주므로,
+-- 기존 행과 겹치지 않게 MAX(id) + allocationSize 에서 다시 시작한다.
+
+ALTER TABLE posts ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE posts_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE posts_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM posts);
+
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE comments_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM comments);
@@ -0,0 +1,9 @@
+-- 예식장 비용순 정렬과 총비용 범위 조회용 컬럼. Post 생성/수정 시 애플리케이션이 계산해 저장한다.
+ALTER TABLE posts ADD COLUMN total_cost BIGINT;
+
+UPDATE posts
+SET total_cost = CAST(meal_price AS BIGINT) * guarantee_min + COALESCE(rental_fee, 0) + COALESCE(etc_fee, 0)
+WHERE meal_price IS NOT NULL AND guarantee_min IS NOT NULL;
+
+-- 비용순 keyset 조회 (board_code 등치 + total_cost 범위 seek, 정렬 생략)
+CREATE INDEX idx_posts_board_total_cost ON posts (board_code, total_cost, id);
@@ -0,0 +1,6 @@
+-- 상세 화면 ETag/Last-Modified 용 댓글 변경 시각. 댓글 수 증감과 같은 UPDATE로 갱신한다.
+ALTER TABLE posts ADD COLUMN comments_updated_at TIMESTAMP;
+
+UPDATE posts p
+SET comments_updated_at = (SELECT MAX(c.created_at) FROM comments c WHERE c.post_id = p.id)
+WHERE EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.id);
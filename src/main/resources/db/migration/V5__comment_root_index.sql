@@ -0,0 +1,3 @@
+-- 긴 스레드의 최상위 댓글만 페이지 단위로 읽기 위한 인덱스.
+-- (post_id, path) 로는 루트 사이의 답글을 모두 건너뛰며 읽어야 하므로 depth를 path 앞에 둔다.
+CREATE INDEX idx_comments_post_depth_path ON comments (post_id, depth, path);
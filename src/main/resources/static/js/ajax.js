@@ -61,6 +61,19 @@ var BoardAjax = (function () {
     return request(url, 'DELETE');
   }
 
+  /**
+   * HTML fragment 조회 (댓글 더 보기 등)
+   * @param {string} url
+   * @returns {Promise<string>}
+   */
+  function fragment(url) {
+    return fetch(url, { headers: { 'Accept': 'text/html' }, credentials: 'same-origin' })
+      .then(function (response) {
+        if (response.ok) return response.text();
+        throw new Error('요청 실패: ' + response.status);
+      });
+  }
+
   /**
    * 응답 처리 헬퍼 - JSON 파싱 후 반환
    */
@@ -83,6 +96,7 @@ var BoardAjax = (function () {
     put: put,
     delete: del,
     request: request,
+    fragment: fragment,
     handleResponse: handleResponse
   };
 })();
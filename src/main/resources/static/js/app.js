@@ -10,10 +10,12 @@
     initPostFormAjax();
     initPostDeleteAjax();
     initCommentAjax();
+    initCommentOwnerActions();
+    initLazyComments();
   });
 
-  function initReplyFormFocus() {
-    document.querySelectorAll('[id^="reply-form-"]').forEach(function (el) {
+  function initReplyFormFocus(root) {
+    (root || document).querySelectorAll('[id^="reply-form-"]').forEach(function (el) {
       el.addEventListener('shown.bs.collapse', function () {
         var input = this.querySelector('input[name="content"]');
         if (input) input.focus();
@@ -92,10 +94,7 @@
             var depth = item.dataset.depth || '0';
             var isReply = parseInt(depth, 10) > 0;
             var viewHtml = '<div class="comment-view-wrap"><p class="comment-content mb-1 mt-1' + (isReply ? ' small' : '') + '">' + escapeHtml(body.content) + '</p>' +
-              '<div class="small d-flex align-items-center flex-wrap comment-actions" style="gap: 0.25rem 0.75rem;">' +
-              '<a href="/boards/' + boardCode + '/posts/' + postId + '?editComment=' + commentId + '" class="btn btn-link btn-sm p-0 m-0 text-primary text-decoration-none border-0 comment-edit-link" style="font-size: inherit; line-height: 1.5;">수정</a> ' +
-              '<button type="button" class="btn btn-link btn-sm p-0 m-0 text-danger text-decoration-none border-0 comment-delete-btn" style="font-size: inherit; line-height: 1.5;" data-board-code="' + boardCode + '" data-post-id="' + postId + '" data-comment-id="' + commentId + '">삭제</button>' +
-              '</div></div>';
+              commentActionsHtml(boardCode, postId, commentId) + '</div>';
             wrap.outerHTML = viewHtml;
           }
         })
@@ -134,6 +133,57 @@
     });
   }
 
+  /**
+   * 캐시된 댓글 트리 - 본인 댓글에 수정/삭제 버튼을 붙인다.
+   * 서버는 보는 사람과 무관한 HTML만 캐시하므로 작성자 id(data-author-id)와 현재 사용자 id를 여기서 맞춘다.
+   */
+  function initCommentOwnerActions() {
+    var section = document.getElementById('comments');
+    if (!section || !section.dataset.currentUserId) return;
+    var boardCode = section.dataset.boardCode || 'GENERAL';
+    section.querySelectorAll('.comment-item[data-author-id="' + section.dataset.currentUserId + '"]').forEach(function (item) {
+      var view = item.querySelector(':scope > div > .comment-view-wrap');
+      if (!view || view.querySelector('.comment-actions')) return;
+      view.insertAdjacentHTML('beforeend', commentActionsHtml(boardCode, item.dataset.postId, item.dataset.commentId));
+    });
+  }
+
+  function commentActionsHtml(boardCode, postId, commentId) {
+    return '<div class="small d-flex align-items-center flex-wrap comment-actions" style="gap: 0.25rem 0.75rem;">' +
+      '<a href="/boards/' + boardCode + '/posts/' + postId + '?editComment=' + commentId + '" class="btn btn-link btn-sm p-0 m-0 text-primary text-decoration-none border-0 comment-edit-link" style="font-size: inherit; line-height: 1.5;">수정</a> ' +
+      '<button type="button" class="btn btn-link btn-sm p-0 m-0 text-danger text-decoration-none border-0 comment-delete-btn" style="font-size: inherit; line-height: 1.5;" data-board-code="' + boardCode + '" data-post-id="' + postId + '" data-comment-id="' + commentId + '">삭제</button>' +
+      '</div>';
+  }
+
+  /** 긴 댓글 스레드 - 댓글/답글 더 보기 (HTML fragment를 이어 붙인다) */
+  function initLazyComments() {
+    document.body.addEventListener('click', function (e) {
+      var btn = e.target.closest('.comment-more-btn, .comment-replies-load');
+      if (!btn) return;
+      e.preventDefault();
+      btn.disabled = true;
+      BoardAjax.fragment(btn.dataset.url)
+        .then(function (html) {
+          var container;
+          if (btn.classList.contains('comment-replies-load')) {
+            container = btn.parentElement.querySelector('.comment-replies-list');
+            container.insertAdjacentHTML('beforeend', html);
+            btn.remove();
+          } else {
+            var more = btn.closest('.comment-more');
+            container = more.parentElement;
+            more.insertAdjacentHTML('beforebegin', html);
+            more.remove();
+          }
+          initReplyFormFocus(container);
+        })
+        .catch(function () {
+          btn.disabled = false;
+          alert('댓글을 불러오지 못했습니다.');
+        });
+    });
+  }
+
   function escapeHtml(str) {
     var div = document.createElement('div');
     div.textContent = str;
@@ -0,0 +1,28 @@
+package com.wedding.board;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** fast-startup 프로파일(지연 초기화, Hibernate 검증 생략)로도 컨텍스트가 뜨고 첫 요청에 응답한다 */
+@SpringBootTest(properties = "spring.profiles.active=fast-startup")
+@AutoConfigureMockMvc
+@DisplayName("fast-startup 프로파일")
+class FastStartupProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("게시글 목록과 로그인 화면에 응답한다")
+    void servesFirstRequests() throws Exception {
+        mockMvc.perform(get("/boards/GENERAL/posts")).andExpect(status().isOk());
+        mockMvc.perform(get("/login")).andExpect(status().isOk());
+    }
+}
@@ -2,17 +2,24 @@ package com.wedding.board.application.comment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.wedding.board.application.post.PostChangedEvent;
 import com.wedding.board.domain.board.Board;
 import com.wedding.board.domain.comment.Comment;
 import com.wedding.board.domain.comment.CommentRepository;
+import com.wedding.board.domain.comment.ReplyCount;
 import com.wedding.board.domain.post.Post;
 import com.wedding.board.domain.post.PostRepository;
 import com.wedding.board.domain.user.User;
 import com.wedding.board.domain.user.UserRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +28,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +46,9 @@ class CommentApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentApplicationService commentApplicationService;
 
@@ -47,7 +60,7 @@ class CommentApplicationServiceTest {
         User author = User.create("user1", "encoded");
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
         Comment comment = Comment.create("댓글", post, author);
-        given(commentRepository.findByPostIdOrderByCreatedAtAsc(1L)).willReturn(List.of(comment));
+        given(commentRepository.findThreadByPostId(1L)).willReturn(List.of(comment));
 
         List<Comment> result = commentApplicationService.getCommentsByPostId(1L);
 
@@ -56,12 +69,33 @@ class CommentApplicationServiceTest {
     }
 
     @Test
-    @DisplayName("createComment: 댓글을 생성하고 id를 반환한다")
+    @DisplayName("getCommentsByPostId: path 순서의 스레드를 한 번에 트리로 조립한다")
+    void getCommentsByPostId_tree() {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        Comment root1 = withPath(Comment.create("루트1", post, author), 1L);
+        Comment reply = withPath(Comment.createReply("답글", post, author, root1), 2L);
+        Comment nested = withPath(Comment.createReply("답글의 답글", post, author, reply), 4L);
+        Comment root2 = withPath(Comment.create("루트2", post, author), 3L);
+        given(commentRepository.findThreadByPostId(1L)).willReturn(List.of(root1, reply, nested, root2));
+
+        List<Comment> result = commentApplicationService.getCommentsByPostId(1L);
+
+        assertThat(result).containsExactly(root1, root2);
+        assertThat(root1.getReplies()).containsExactly(reply);
+        assertThat(reply.getReplies()).containsExactly(nested);
+        assertThat(root2.getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("createComment: 게시글/작성자를 조회하지 않고 댓글 수 UPDATE 후 댓글을 생성한다")
     void createComment() {
         User author = User.create("user1", "encoded");
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(userRepository.findById(1L)).willReturn(Optional.of(author));
+        ReflectionTestUtils.setField(post, "id", 1L);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userRepository.getReferenceById(1L)).willReturn(author);
+        given(postRepository.adjustCommentCount(eq(1L), eq("GENERAL"), eq(1), any(LocalDateTime.class))).willReturn(1);
         given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
             Comment c = invocation.getArgument(0);
             ReflectionTestUtils.setField(c, "id", 1L);
@@ -69,21 +103,47 @@ class CommentApplicationServiceTest {
         });
 
         CreateCommentCommand command = new CreateCommentCommand("댓글 내용", 1L, 1L, null);
-        Long commentId = commentApplicationService.createComment(command);
+        Long commentId = commentApplicationService.createComment("GENERAL", command);
 
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
         assertThat(commentId).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("createComment: 존재하지 않는 게시글에 댓글 작성 시 예외를 던진다")
+    @DisplayName("createComment: 해당 게시판에 없는 게시글이면 댓글 수 UPDATE가 0건이라 예외를 던진다")
     void createComment_postNotFound() {
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.adjustCommentCount(eq(999L), eq("GENERAL"), eq(1), any(LocalDateTime.class))).willReturn(0);
         CreateCommentCommand command = new CreateCommentCommand("댓글", 999L, 1L, null);
 
-        assertThatThrownBy(() -> commentApplicationService.createComment(command))
+        assertThatThrownBy(() -> commentApplicationService.createComment("GENERAL", command))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("게시글을 찾을 수 없습니다");
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("createComment: path 컬럼 길이를 넘는 깊이의 답글은 댓글 수를 바꾸기 전에 거부한다")
+    void createComment_tooDeep() {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment parent = Comment.create("가장 깊은 답글", post, author);
+        ReflectionTestUtils.setField(parent, "id", 1L);
+        ReflectionTestUtils.setField(parent, "depth", Comment.MAX_DEPTH);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userRepository.getReferenceById(1L)).willReturn(author);
+        given(commentRepository.findById(1L)).willReturn(Optional.of(parent));
+
+        CreateCommentCommand command = new CreateCommentCommand("더 깊은 답글", 1L, 1L, 1L);
+
+        assertThatThrownBy(() -> commentApplicationService.createComment("GENERAL", command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(Comment.MAX_DEPTH + "단계까지만");
+        verify(postRepository, never()).adjustCommentCount(any(), any(), anyInt(), any());
+        verify(commentRepository, never()).save(any(Comment.class));
     }
 
     @Test
@@ -94,9 +154,11 @@ class CommentApplicationServiceTest {
         ReflectionTestUtils.setField(post, "id", 1L);
         Comment parent = Comment.create("부모 댓글", post, author);
         ReflectionTestUtils.setField(parent, "id", 1L);
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(userRepository.findById(1L)).willReturn(Optional.of(author));
+        parent.materializePath();
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userRepository.getReferenceById(1L)).willReturn(author);
         given(commentRepository.findById(1L)).willReturn(Optional.of(parent));
+        given(postRepository.adjustCommentCount(eq(1L), eq("GENERAL"), eq(1), any(LocalDateTime.class))).willReturn(1);
         given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
             Comment c = invocation.getArgument(0);
             ReflectionTestUtils.setField(c, "id", 2L);
@@ -104,71 +166,159 @@ class CommentApplicationServiceTest {
         });
 
         CreateCommentCommand command = new CreateCommentCommand("대댓글 내용", 1L, 1L, 1L);
-        Long commentId = commentApplicationService.createComment(command);
+        Long commentId = commentApplicationService.createComment("GENERAL", command);
 
         verify(commentRepository).save(any(Comment.class));
         assertThat(commentId).isEqualTo(2L);
     }
 
     @Test
-    @DisplayName("updateComment: 댓글을 수정한다")
-    void updateComment() {
+    @DisplayName("getRootComments: 최상위 댓글 한 페이지와 루트별 답글 수, 다음 커서를 반환한다")
+    void getRootComments() {
         User author = User.create("user1", "encoded");
-        ReflectionTestUtils.setField(author, "id", 1L);
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        Comment comment = Comment.create("댓글", post, author);
-        ReflectionTestUtils.setField(comment, "id", 1L);
-        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        Comment root1 = withPath(Comment.create("루트1", post, author), 1L);
+        Comment root2 = withPath(Comment.create("루트2", post, author), 3L);
+        given(commentRepository.findRootPage(eq(1L), eq(""), any()))
+                .willReturn(new SliceImpl<>(List.of(root1, root2), PageRequest.of(0, 2), true));
+        given(commentRepository.countRepliesByRoot(1L, root1.getPath(), root2.subtreeEndPath()))
+                .willReturn(List.of(new ReplyCount(root1.getPath(), 5L)));
+
+        CommentPage page = commentApplicationService.getRootComments(1L, null, 2);
 
-        commentApplicationService.updateComment(1L, new UpdateCommentCommand("수정된 내용"), 1L);
+        assertThat(page.getContent()).containsExactly(root1, root2);
+        assertThat(page.getReplyCounts()).containsOnly(entry(1L, 5L));
+        assertThat(page.hasNext()).isTrue();
 
-        assertThat(comment.getContent()).isEqualTo("수정된 내용");
-        verify(commentRepository).save(comment);
+        given(commentRepository.findRootPage(eq(1L), eq(root2.getPath()), any()))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+        assertThat(commentApplicationService.getRootComments(1L, page.getNextCursor(), 2).hasNext()).isFalse();
     }
 
     @Test
-    @DisplayName("updateComment: 본인 댓글이 아니면 예외를 던진다")
-    void updateComment_notAuthor() {
+    @DisplayName("getReplies: 하위 스레드를 부모 path 범위로 조회하고 들여쓰기 기준 깊이를 정한다")
+    void getReplies() {
         User author = User.create("user1", "encoded");
-        ReflectionTestUtils.setField(author, "id", 1L);
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        Comment comment = Comment.create("댓글", post, author);
-        ReflectionTestUtils.setField(comment, "id", 1L);
-        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment root = withPath(Comment.create("루트", post, author), 1L);
+        Comment reply = withPath(Comment.createReply("답글", post, author, root), 2L);
+        given(commentRepository.findById(1L)).willReturn(Optional.of(root));
+        given(commentRepository.findSubtreePage(eq(1L), eq(root.subtreeStartPath()), eq(root.subtreeEndPath()), any()))
+                .willReturn(new SliceImpl<>(List.of(reply), PageRequest.of(0, 50), false));
+
+        CommentPage page = commentApplicationService.getReplies(1L, 1L, null, 50);
+
+        assertThat(page.getContent()).containsExactly(reply);
+        assertThat(page.getBaseDepth()).isEqualTo(1);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getReplies: 다른 게시글의 댓글이면 예외가 발생한다")
+    void getReplies_otherPost() {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 2L);
+        Comment root = withPath(Comment.create("루트", post, author), 1L);
+        given(commentRepository.findById(1L)).willReturn(Optional.of(root));
+
+        assertThatThrownBy(() -> commentApplicationService.getReplies(1L, 1L, null, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 
-        assertThatThrownBy(() -> commentApplicationService.updateComment(1L, new UpdateCommentCommand("수정"), 999L))
+    private Comment withPath(Comment comment, Long id) {
+        ReflectionTestUtils.setField(comment, "id", id);
+        comment.materializePath();
+        return comment;
+    }
+
+    @Test
+    @DisplayName("updateComment: 조건부 UPDATE 한 번으로 수정하고 댓글을 조회하지 않는다")
+    void updateComment() {
+        given(commentRepository.updateContentByAuthor(1L, 1L, 1L, "수정된 내용")).willReturn(1);
+
+        commentApplicationService.updateComment(1L, 1L, new UpdateCommentCommand("수정된 내용"), 1L);
+
+        verify(commentRepository, never()).findById(any());
+        verify(postRepository).markCommentsUpdated(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("updateComment: 본인 댓글이 아니면 예외를 던진다")
+    void updateComment_notAuthor() {
+        given(commentRepository.findById(1L)).willReturn(Optional.of(savedComment(false)));
+
+        assertThatThrownBy(() -> commentApplicationService.updateComment(1L, 1L, new UpdateCommentCommand("수정"), 999L))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("본인의 댓글만 수정할 수 있습니다");
+        verify(postRepository, never()).markCommentsUpdated(any(), any());
+    }
+
+    @Test
+    @DisplayName("updateComment: 삭제된 댓글이면 예외를 던진다")
+    void updateComment_deleted() {
+        given(commentRepository.findById(1L)).willReturn(Optional.of(savedComment(true)));
+
+        assertThatThrownBy(() -> commentApplicationService.updateComment(1L, 1L, new UpdateCommentCommand("수정"), 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("삭제된 댓글은 수정할 수 없습니다");
     }
 
     @Test
-    @DisplayName("deleteComment: 댓글을 삭제한다")
+    @DisplayName("updateComment: 없는 댓글이면 예외를 던진다")
+    void updateComment_notFound() {
+        given(commentRepository.findById(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commentApplicationService.updateComment(1L, 1L, new UpdateCommentCommand("수정"), 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("댓글을 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("deleteComment: 조건부 UPDATE 두 번으로 삭제 표시와 댓글 수 감소를 한다")
     void deleteComment() {
-        User author = User.create("user1", "encoded");
-        ReflectionTestUtils.setField(author, "id", 1L);
-        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        Comment comment = Comment.create("댓글", post, author);
-        ReflectionTestUtils.setField(comment, "id", 1L);
-        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        given(commentRepository.markDeletedByAuthor(1L, 1L, 1L)).willReturn(1);
+        given(postRepository.adjustCommentCount(eq(1L), eq("GENERAL"), eq(-1), any(LocalDateTime.class))).willReturn(1);
 
-        commentApplicationService.deleteComment(1L, 1L);
+        commentApplicationService.deleteComment("GENERAL", 1L, 1L, 1L);
 
-        assertThat(comment.isDeleted()).isTrue();
-        verify(commentRepository).save(comment);
+        verify(commentRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
     }
 
     @Test
     @DisplayName("deleteComment: 본인 댓글이 아니면 예외를 던진다")
     void deleteComment_notAuthor() {
+        given(commentRepository.findById(1L)).willReturn(Optional.of(savedComment(false)));
+
+        assertThatThrownBy(() -> commentApplicationService.deleteComment("GENERAL", 1L, 1L, 999L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("본인의 댓글만 삭제할 수 있습니다");
+        verify(postRepository, never()).adjustCommentCount(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("deleteComment: 다른 게시글의 댓글이면 예외를 던진다")
+    void deleteComment_otherPost() {
+        given(commentRepository.findById(1L)).willReturn(Optional.of(savedComment(false)));
+
+        assertThatThrownBy(() -> commentApplicationService.deleteComment("GENERAL", 2L, 1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해당 게시글에 속하지 않습니다");
+    }
+
+    /** 1번 글에 1번 사용자가 쓴 1번 댓글 */
+    private Comment savedComment(boolean deleted) {
         User author = User.create("user1", "encoded");
         ReflectionTestUtils.setField(author, "id", 1L);
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 1L);
         Comment comment = Comment.create("댓글", post, author);
         ReflectionTestUtils.setField(comment, "id", 1L);
-        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
-
-        assertThatThrownBy(() -> commentApplicationService.deleteComment(1L, 999L))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("본인의 댓글만 삭제할 수 있습니다");
+        if (deleted) {
+            comment.markAsDeleted();
+        }
+        return comment;
     }
 }
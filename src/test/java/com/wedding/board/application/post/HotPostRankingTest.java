@@ -0,0 +1,173 @@
+package com.wedding.board.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.board.BoardRepository;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.PostSummary;
+import com.wedding.board.domain.user.User;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotPostRanking")
+class HotPostRankingTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private final Board board = Board.of("GENERAL", "자유게시판");
+
+    private HotPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        // 2개 표시, 후보 3개, 반감기 6시간
+        ranking = new HotPostRanking(postRepository, boardRepository, 2, 3, Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("rebuild: 최신 글로 채우고, 활동이 같으면 최근 글이, 6시간 전 글은 활동이 두 배를 넘어야 앞선다")
+    void rebuild() {
+        rebuildWith(
+                summary(1L, "6시간 전, 댓글 4개", NOW.minusHours(6), 4, 0),   // (10 + 12) / 2 = 11
+                summary(2L, "방금, 활동 없음", NOW, 0, 0),                     // 10
+                summary(3L, "12시간 전, 조회 100", NOW.minusHours(12), 0, 100)); // 110 / 4 = 27.5
+
+        assertThat(titles("GENERAL")).containsExactly("12시간 전, 조회 100", "6시간 전, 댓글 4개");
+        assertThat(ranking.top("VENUE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글 작성은 후보 글의 점수를 조회 없이 올리고, 댓글 삭제는 점수를 빼지 않는다")
+    void commentsRaiseScore() {
+        rebuildWith(summary(1L, "먼저 쓴 글", NOW.minusHours(1), 0, 0), summary(2L, "나중 글", NOW, 0, 0));
+        assertThat(titles("GENERAL")).containsExactly("나중 글", "먼저 쓴 글");
+
+        ranking.onPostChanged(PostChangedEvent.comments("GENERAL", 1L, 2));
+        assertThat(titles("GENERAL")).containsExactly("먼저 쓴 글", "나중 글");
+
+        ranking.onPostChanged(PostChangedEvent.comments("GENERAL", 1L, -2));
+        assertThat(titles("GENERAL")).containsExactly("먼저 쓴 글", "나중 글");
+        verify(postRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("후보 수를 넘으면 점수가 가장 낮은 글이 밀려나고, 밀려난 글에 활동이 생기면 다시 들어온다")
+    void boundedCandidates() {
+        rebuildWith(summary(1L, "가장 오래된 글", NOW.minusHours(3), 0, 0),
+                summary(2L, "두 번째", NOW.minusHours(2), 0, 0),
+                summary(3L, "세 번째", NOW.minusHours(1), 0, 0));
+        given(postRepository.findById(4L)).willReturn(Optional.of(post(4L, "새 글")));
+        ranking.onPostChanged(PostChangedEvent.of("GENERAL", 4L, PostChangedEvent.Change.CREATED));
+
+        given(postRepository.findById(1L)).willReturn(Optional.of(post(1L, "가장 오래된 글")));
+        ranking.onPostChanged(PostChangedEvent.comments("GENERAL", 1L, 5));
+
+        verify(postRepository).findById(1L);
+        assertThat(titles("GENERAL")).containsExactly("가장 오래된 글", "새 글");
+    }
+
+    @Test
+    @DisplayName("조회 반영 이벤트: 후보 글은 바로 더하고, 후보 밖의 글만 한 번에 조회해 들인다")
+    void viewsAreBatched() {
+        rebuildWith(summary(1L, "후보 글", NOW.minusHours(1), 0, 0), summary(2L, "다른 후보", NOW, 0, 0));
+        given(postRepository.findSummariesByIdIn(Set.of(9L)))
+                .willReturn(List.of(summary(9L, "조회 많은 글", NOW.minusDays(3), 0, 0)));
+
+        ranking.onPostsViewed(PostsViewedEvent.of(Map.of(1L, 3L, 9L, 50L)));
+
+        verify(postRepository).findSummariesByIdIn(Set.of(9L));
+        assertThat(titles("GENERAL")).containsExactly("조회 많은 글", "후보 글");
+    }
+
+    @Test
+    @DisplayName("글 수정은 제목만 바꾸고, 글 삭제는 순위에서 뺀다")
+    void updateAndDelete() {
+        rebuildWith(summary(1L, "옛 제목", NOW, 0, 0), summary(2L, "두 번째", NOW.minusHours(1), 0, 0));
+        given(postRepository.findById(1L)).willReturn(Optional.of(post(1L, "새 제목")));
+
+        ranking.onPostChanged(PostChangedEvent.of("GENERAL", 1L, PostChangedEvent.Change.UPDATED));
+        assertThat(titles("GENERAL")).containsExactly("새 제목", "두 번째");
+
+        ranking.onPostChanged(PostChangedEvent.of("GENERAL", 1L, PostChangedEvent.Change.DELETED));
+        assertThat(titles("GENERAL")).containsExactly("두 번째");
+    }
+
+    @Test
+    @DisplayName("보이는 순위가 바뀔 때마다 게시판 버전이 오르고, rebuild 뒤에도 이전 버전으로 돌아가지 않는다")
+    void versionFollowsPublishedTop() {
+        assertThat(ranking.version("GENERAL")).isZero();
+        rebuildWith(summary(1L, "첫 글", NOW, 0, 0));
+        long rebuilt = ranking.version("GENERAL");
+        assertThat(rebuilt).isPositive();
+
+        ranking.onPostChanged(PostChangedEvent.of("GENERAL", 1L, PostChangedEvent.Change.DELETED));
+        long deleted = ranking.version("GENERAL");
+        assertThat(deleted).isGreaterThan(rebuilt);
+
+        rebuildWith(summary(1L, "첫 글", NOW, 0, 0));
+        assertThat(ranking.version("GENERAL")).isGreaterThan(deleted);
+    }
+
+    @Test
+    @DisplayName("보이는 순위 밖의 후보에만 활동이 생기면 스냅샷과 버전을 그대로 둔다")
+    void versionIgnoresChangesBelowTop() {
+        rebuildWith(summary(1L, "첫 글", NOW, 0, 0),
+                summary(2L, "두 번째", NOW.minusHours(1), 0, 0),
+                summary(3L, "12시간 전", NOW.minusHours(12), 0, 0));   // 2.5, 댓글 하나로 5.5
+        List<HotPost> top = ranking.top("GENERAL");
+        long version = ranking.version("GENERAL");
+
+        ranking.onPostChanged(PostChangedEvent.comments("GENERAL", 3L, 1));
+        ranking.onPostsViewed(PostsViewedEvent.of(Map.of(1L, 1L)));
+
+        assertThat(ranking.top("GENERAL")).isSameAs(top);
+        assertThat(ranking.version("GENERAL")).isEqualTo(version);
+    }
+
+    private void rebuildWith(PostSummary... posts) {
+        given(boardRepository.findAll()).willReturn(List.of(board));
+        given(postRepository.findSliceByBoardCode("GENERAL", PageRequest.of(0, 3)))
+                .willReturn(new SliceImpl<>(List.of(posts)));
+        ranking.rebuild();
+    }
+
+    private List<String> titles(String boardCode) {
+        return ranking.top(boardCode).stream().map(HotPost::getTitle).toList();
+    }
+
+    private static PostSummary summary(Long id, String title, LocalDateTime createdAt, int comments, long views) {
+        return new PostSummary(id, "GENERAL", title, "user1", createdAt, comments, views);
+    }
+
+    private Post post(Long id, String title) {
+        Post post = Post.create(board, title, "내용", User.create("user1", "encoded"), null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -3,7 +3,12 @@ package com.wedding.board.application.post;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.wedding.board.domain.board.Board;
@@ -11,20 +16,28 @@ import com.wedding.board.domain.board.BoardRepository;
 import com.wedding.board.domain.comment.CommentRepository;
 import com.wedding.board.domain.post.Post;
 import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.PostSummary;
 import com.wedding.board.domain.user.User;
 import com.wedding.board.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PostApplicationService")
@@ -42,24 +55,82 @@ class PostApplicationServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PostListCache postListCache = new PostListCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private PostApplicationService postApplicationService;
 
     private final Board board = Board.of("GENERAL", "자유게시판");
 
     @Test
-    @DisplayName("getPosts: 작성일 역순으로 페이징된 게시글 목록을 반환한다")
-    void getPosts() {
-        User author = User.create("user1", "encoded");
-        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        Page<Post> page = new PageImpl<>(java.util.List.of(post));
-        given(postRepository.findByBoardCodeIncludingLegacy("GENERAL", any())).willReturn(page);
+    @DisplayName("getPosts(cursor): 첫 페이지는 count 없이 slice로 조회하고 다음 커서를 반환한다")
+    void getPosts_firstSlice() {
+        PostSummary post = summary(10L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        given(postRepository.findSliceByBoardCode(eq("GENERAL"), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 1), true));
+
+        PostSlice result = postApplicationService.getPosts("GENERAL", null, null, 1);
+
+        assertThat(result.getContent()).containsExactly(post);
+        assertThat(result.hasPrevious()).isFalse();
+        assertThat(PostCursor.decode(result.getNextCursor())).isEqualTo(PostCursor.from(post));
+    }
+
+    @Test
+    @DisplayName("getPosts(cursor): after 커서로 더 오래된 글을 조회한다")
+    void getPosts_after() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        PostSummary older = summary(9L, createdAt.minusMinutes(1));
+        given(postRepository.findOlderSliceByBoardCode(eq("GENERAL"), eq(createdAt), eq(10L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(older), PageRequest.of(0, 1), false));
+
+        PostSlice result = postApplicationService.getPosts("GENERAL", PostCursor.of(createdAt, 10L).encode(), null, 1);
+
+        assertThat(result.getContent()).containsExactly(older);
+        assertThat(result.hasPrevious()).isTrue();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getPosts(cursor): before 커서로 최신 글을 조회해 최신순으로 뒤집는다")
+    void getPosts_before() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        PostSummary newer = summary(11L, createdAt.plusMinutes(1));
+        PostSummary newest = summary(12L, createdAt.plusMinutes(2));
+        given(postRepository.findNewerSliceByBoardCode(eq("GENERAL"), eq(createdAt), eq(10L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(newer, newest), PageRequest.of(0, 2), false));
+
+        PostSlice result = postApplicationService.getPosts("GENERAL", null, PostCursor.of(createdAt, 10L).encode(), 2);
+
+        assertThat(result.getContent()).containsExactly(newest, newer);
+        assertThat(result.hasPrevious()).isFalse();
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getPosts(cursor): 같은 게시판/커서의 반복 조회는 캐시에서 반환한다")
+    void getPosts_cached() {
+        PostSummary post = summary(10L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        given(postRepository.findSliceByBoardCode(eq("GENERAL"), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 10), false));
+
+        PostSlice first = postApplicationService.getPosts("GENERAL", null, null, 10);
+        PostSlice second = postApplicationService.getPosts("GENERAL", null, null, 10);
 
-        Page<Post> result = postApplicationService.getPosts("GENERAL", PageRequest.of(0, 10));
+        assertThat(second).isSameAs(first);
+        verify(postRepository, times(1)).findSliceByBoardCode(eq("GENERAL"), any(Pageable.class));
+    }
 
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("제목");
-        verify(postRepository).findByBoardCodeIncludingLegacy("GENERAL", any(Pageable.class));
+    @Test
+    @DisplayName("getPosts(cursor): 잘못된 커서는 예외를 던진다")
+    void getPosts_invalidCursor() {
+        assertThatThrownBy(() -> postApplicationService.getPosts("GENERAL", "not-a-cursor", null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 페이지 커서");
     }
 
     @Test
@@ -103,6 +174,7 @@ class PostApplicationServiceTest {
 
         verify(postRepository).save(any(Post.class));
         assertThat(postId).isEqualTo(1L);
+        assertChangedEvent("GENERAL", 1L, PostChangedEvent.Change.CREATED);
     }
 
     @Test
@@ -118,25 +190,62 @@ class PostApplicationServiceTest {
     }
 
     @Test
-    @DisplayName("updatePost: 게시글을 수정한다")
+    @DisplayName("updatePost: 글을 조회하지 않고 총비용까지 계산해 조건부 UPDATE 한 번으로 수정한다")
     void updatePost() {
-        User author = User.create("user1", "encoded");
-        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
-        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(postRepository.updateContent(eq(1L), eq("VENUE"), eq("수정 제목"), eq("수정 내용"), eq("강남"),
+                eq(50_000), eq(200), eq(1_000_000), isNull(), eq(11_000_000L), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        UpdatePostCommand command = new UpdatePostCommand("수정 제목", "수정 내용", "강남", 50_000, 200, 1_000_000, null);
+        postApplicationService.updatePost("VENUE", 1L, command);
+
+        verify(postRepository, never()).findById(any());
+        assertChangedEvent("VENUE", 1L, PostChangedEvent.Change.UPDATED);
+    }
 
+    @Test
+    @DisplayName("updatePost: 해당 게시판에 없는 글이면 예외를 던진다")
+    void updatePost_notFound() {
         UpdatePostCommand command = new UpdatePostCommand("수정 제목", "수정 내용", null, null, null, null, null);
-        postApplicationService.updatePost(1L, command);
 
-        assertThat(post.getTitle()).isEqualTo("수정 제목");
-        assertThat(post.getContent()).isEqualTo("수정 내용");
-        verify(postRepository).save(post);
+        assertThatThrownBy(() -> postApplicationService.updatePost("GENERAL", 999L, command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("게시글을 찾을 수 없습니다");
     }
 
     @Test
-    @DisplayName("deletePost: 게시글을 삭제한다")
+    @DisplayName("deletePost: 글을 조회하지 않고 댓글 부모 참조를 끊은 뒤 스레드와 게시글을 게시판 조건으로 일괄 삭제한다")
     void deletePost() {
-        postApplicationService.deletePost(1L);
-        verify(postRepository).deleteById(1L);
+        given(postRepository.deleteByIdAndBoardCode(1L, "GENERAL")).willReturn(1);
+
+        postApplicationService.deletePost("GENERAL", 1L);
+
+        InOrder inOrder = inOrder(commentRepository, postRepository);
+        inOrder.verify(commentRepository).detachRepliesByPostId(1L);
+        inOrder.verify(commentRepository).deleteThreadByPostId(1L);
+        inOrder.verify(postRepository).deleteByIdAndBoardCode(1L, "GENERAL");
+        verify(postRepository, never()).findById(any());
+        assertChangedEvent("GENERAL", 1L, PostChangedEvent.Change.DELETED);
+    }
+
+    @Test
+    @DisplayName("deletePost: 해당 게시판에 없는 글이면 예외를 던지고 이벤트를 보내지 않는다")
+    void deletePost_notFound() {
+        assertThatThrownBy(() -> postApplicationService.deletePost("VENUE", 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("게시글을 찾을 수 없습니다");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private void assertChangedEvent(String boardCode, Long postId, PostChangedEvent.Change change) {
+        ArgumentCaptor<PostChangedEvent> captor = ArgumentCaptor.forClass(PostChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getBoardCode()).isEqualTo(boardCode);
+        assertThat(captor.getValue().getPostId()).isEqualTo(postId);
+        assertThat(captor.getValue().getChange()).isEqualTo(change);
+    }
+
+    private PostSummary summary(Long id, LocalDateTime createdAt) {
+        return new PostSummary(id, "GENERAL", "제목" + id, "user1", createdAt, 0, 0);
     }
 }
@@ -0,0 +1,96 @@
+package com.wedding.board.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.domain.comment.CommentRepository;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("게시글 삭제 SQL 실행 횟수")
+class PostDeleteStatementCountTest {
+
+    private static final int ROOT_COUNT = 10;
+    private static final int THREAD_DEPTH = 4;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("deletePost: 답글의 답글까지 있는 스레드도 댓글 수와 무관한 고정 횟수의 SQL로 삭제한다")
+    void deleteUsesBoundedStatements() {
+        author = userRepository.save(User.create("deleter", "encoded"));
+        Long postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "제목", "내용", author.getId(), null, null, null, null, null));
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            Long parentId = null;
+            for (int depth = 0; depth < THREAD_DEPTH; depth++) {
+                parentId = commentApplicationService.createComment("GENERAL",
+                        new CreateCommentCommand("댓글", postId, author.getId(), parentId));
+            }
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        postApplicationService.deletePost("GENERAL", postId);
+
+        // 부모 참조 해제, 댓글 삭제, 게시글 삭제 (게시글을 먼저 읽지 않는다)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(postRepository.existsById(postId)).isFalse();
+        assertThat(commentRepository.findThreadByPostId(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deletePost: 다른 게시판 코드로는 지우지 못하고, 먼저 지운 댓글도 되돌린다")
+    void deleteFromOtherBoardRollsBack() {
+        author = userRepository.save(User.create("deleter", "encoded"));
+        Long postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "제목", "내용", author.getId(), null, null, null, null, null));
+        Long rootId = commentApplicationService.createComment("GENERAL",
+                new CreateCommentCommand("댓글", postId, author.getId(), null));
+        commentApplicationService.createComment("GENERAL", new CreateCommentCommand("답글", postId, author.getId(), rootId));
+
+        assertThatThrownBy(() -> postApplicationService.deletePost("VENUE", postId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("게시글을 찾을 수 없습니다");
+
+        assertThat(postRepository.existsById(postId)).isTrue();
+        assertThat(commentRepository.findThreadByPostId(postId)).hasSize(2)
+                .allSatisfy(comment -> assertThat(comment.getDepth() == 0 || comment.getParent() != null).isTrue());
+        postApplicationService.deletePost("GENERAL", postId);
+    }
+}
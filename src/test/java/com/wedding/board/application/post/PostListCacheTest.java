@@ -0,0 +1,108 @@
+package com.wedding.board.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PostListCache")
+class PostListCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostListCache cache = new PostListCache(100, Duration.ofMinutes(1), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 게시판/커서/크기는 한 번만 조회하고 hit/miss를 메트릭으로 남긴다")
+    void cachesAndRecordsStats() {
+        load("GENERAL", null);
+        load("GENERAL", null);
+        load("GENERAL", "cursor");
+
+        assertThat(loads).hasValue(2);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트는 해당 게시판의 항목만 비운다")
+    void evictsOnlyChangedBoard() {
+        load("GENERAL", null);
+        load("GENERAL", "cursor");
+        load("VENUE", null);
+
+        cache.onPostChanged(PostChangedEvent.of("GENERAL", 1L, PostChangedEvent.Change.UPDATED));
+        load("GENERAL", null);
+        load("GENERAL", "cursor");
+        load("VENUE", null);
+
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("비우기 전에 시작한 조회의 결과는 비운 뒤의 요청에 쓰이지 않는다")
+    void inFlightLoadDoesNotSurviveEviction() throws Exception {
+        PostSlice stale = PostSlice.of(List.of(), true, false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        CompletableFuture<PostSlice> inFlight = CompletableFuture.supplyAsync(() ->
+                cache.get("GENERAL", null, null, 10, () -> {
+                    // 이전 목록을 읽은 뒤, 넣기 전에 다른 요청의 쓰기가 커밋되어 비워진 상황
+                    loading.countDown();
+                    await(evicted);
+                    return stale;
+                }));
+
+        await(loading);
+        cache.evictBoard("GENERAL");
+        evicted.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isSameAs(stale);
+        assertThat(load("GENERAL", null)).isNotSameAs(stale);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회는 캐시 잠금 밖에서 하므로 조회 중에 다른 목록을 읽어도 막히지 않는다")
+    void loadsOutsideCacheLock() {
+        PostSlice outer = cache.get("GENERAL", null, null, 10, () -> {
+            load("VENUE", null);
+            load("GENERAL", "cursor");
+            return PostSlice.of(List.of(), false, false);
+        });
+
+        assertThat(load("GENERAL", null)).isSameAs(outer);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PostSlice load(String boardCode, String after) {
+        return cache.get(boardCode, after, null, 10, () -> {
+            loads.incrementAndGet();
+            return PostSlice.of(List.of(), false, false);
+        });
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", PostListCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,131 @@
+package com.wedding.board.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** 주기 반영은 끄고(flush-interval=0s) flush 를 직접 호출해 확인한다 */
+@SpringBootTest(properties = "board.view-counter.flush-interval=0s")
+@AutoConfigureMockMvc
+@DisplayName("PostViewCounter")
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    private User author;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postViewCounter.flush();
+        author = userRepository.save(User.create("viewer", "encoded"));
+        postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "조회수", "내용", author.getId(), null, null, null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postApplicationService.deletePost("GENERAL", postId);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("동시 조회는 메모리에만 쌓이고 flush 한 번에 합계가 DB에 반영된다")
+    void flushAddsConcurrentViews() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 1000).forEach(i -> executor.execute(() -> postViewCounter.increment(postId)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(postViewCounter.pending(postId)).isEqualTo(1000);
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isZero();
+
+        assertThat(postViewCounter.flush()).isEqualTo(1);
+
+        assertThat(postViewCounter.pending(postId)).isZero();
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(1000);
+        assertThat(postViewCounter.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 이벤트를 받는 쪽이 실패해도 flush 는 성공으로 끝나고 이미 반영한 증가분을 다시 쌓지 않는다")
+    void listenerFailureDoesNotRetryDeltas() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        PostViewCounter counter = new PostViewCounter(jdbcTemplate, event -> {
+            throw new IllegalStateException("listener");
+        }, Duration.ZERO);
+        counter.increment(1L);
+
+        assertThat(counter.flush()).isEqualTo(1);
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.flush()).isZero();
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(PostViewCounter.FLUSH_SQL), anyList());
+    }
+
+    @Test
+    @DisplayName("상세 화면은 반영 전 조회수까지 더해 보여주고, 목록은 조회수 반영을 쓰기로 보지 않아 캐시가 만료된 뒤에 보여준다")
+    void detailAndListShowViews() throws Exception {
+        mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("<td class=\"text-end\">0</td>")));
+
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId)).andExpect(status().isOk());
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("조회 <span>2</span>")));
+
+        postViewCounter.flush();
+
+        assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(2);
+        mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("<td class=\"text-end\">0</td>")));
+
+        // TTL 만료 대신 직접 비운다
+        postListCache.evictBoard("GENERAL");
+        mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("<td class=\"text-end\">2</td>")));
+    }
+}
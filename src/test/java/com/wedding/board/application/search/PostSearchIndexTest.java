@@ -0,0 +1,132 @@
+package com.wedding.board.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.wedding.board.application.post.PostChangedEvent;
+import com.wedding.board.application.post.PostChangedEvent.Change;
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.user.User;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchIndex")
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostSearchIndex index;
+
+    private final Board venue = Board.of("VENUE", "예식장");
+    private final Board general = Board.of("GENERAL", "자유게시판");
+    private final User author = User.create("user1", "encoded");
+
+    @Test
+    @DisplayName("search: 붙여 쓴 단어 안의 부분 문자열도 bigram으로 찾는다")
+    void matchesSubstringOfKoreanWord() {
+        index.index(post(1L, venue, "강남웨딩홀 후기", "좋았어요", null));
+
+        assertThat(index.search("VENUE", "웨딩홀")).containsExactly(1L);
+        assertThat(index.search("VENUE", "강남 웨딩")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("search: 질의의 모든 토큰을 포함한 글만 찾는다")
+    void requiresAllTokens() {
+        index.index(post(1L, venue, "강남 웨딩홀", "", null));
+        index.index(post(2L, venue, "강남 맛집", "", null));
+
+        assertThat(index.search("VENUE", "강남 웨딩홀")).containsExactly(1L);
+        assertThat(index.search("VENUE", "부산")).isEmpty();
+        assertThat(index.search("VENUE", "  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search: 제목 > 장소 > 본문 순으로 가중치를 두어 순위를 매긴다")
+    void ranksByFieldWeight() {
+        index.index(post(1L, venue, "후기", "채플 분위기가 좋아요", null));
+        index.index(post(2L, venue, "채플 후기", "", null));
+        index.index(post(3L, venue, "후기", "", "채플홀"));
+
+        assertThat(index.search("VENUE", "채플")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("search: 다른 게시판의 글은 제외하고, 본문의 HTML 태그는 색인하지 않는다")
+    void filtersByBoardAndIgnoresMarkup() {
+        index.index(post(1L, venue, "웨딩홀", "<p>내용</p>", null));
+        index.index(post(2L, general, "웨딩홀", "", null));
+
+        assertThat(index.search("VENUE", "웨딩홀")).containsExactly(1L);
+        assertThat(index.search("VENUE", "p")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index/remove: 다시 색인하면 이전 내용의 토큰은 사라지고, 삭제하면 검색되지 않는다")
+    void reindexAndRemove() {
+        index.index(post(1L, venue, "강남 웨딩홀", "", null));
+        index.index(post(1L, venue, "부산 웨딩홀", "", null));
+
+        assertThat(index.search("VENUE", "강남")).isEmpty();
+        assertThat(index.search("VENUE", "부산")).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("VENUE", "웨딩홀")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("onPostChanged: 생성/수정은 다시 읽어 색인하고, 댓글 수 변경은 무시한다")
+    void appliesChangeEvents() {
+        Post post = post(1L, venue, "강남 웨딩홀", "", null);
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+
+        index.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.CREATED));
+        assertThat(index.search("VENUE", "웨딩홀")).containsExactly(1L);
+
+        index.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.DELETED));
+        assertThat(index.search("VENUE", "웨딩홀")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onPostChanged: 댓글 수 변경은 저장소를 조회하지 않는다")
+    void ignoresCommentChanges() {
+        index.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.COMMENTS));
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("rebuild: 저장된 글 전체를 id 순 배치로 읽어 색인한다")
+    void rebuild() {
+        given(postRepository.findIndexBatchAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(post(1L, venue, "강남 웨딩홀", "", null), post(2L, general, "잡담", "", null)));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("GENERAL", "잡담")).containsExactly(2L);
+    }
+
+    private Post post(Long id, Board board, String title, String content, String location) {
+        Post post = Post.create(board, title, content, author, location, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -0,0 +1,176 @@
+package com.wedding.board.application.venue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.wedding.board.application.post.PostChangedEvent;
+import com.wedding.board.application.post.PostChangedEvent.Change;
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.VenueCost;
+import com.wedding.board.domain.user.User;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VenueCostStatistics")
+class VenueCostStatisticsTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private VenueCostStatistics statistics;
+
+    private final Board venue = Board.of("VENUE", "예식장");
+    private final User author = User.create("user1", "encoded");
+
+    @Test
+    @DisplayName("getSummary: 항목별 최소/평균/중앙값/p90과 총비용을 계산한다")
+    void summarizesEachField() {
+        for (long id = 1; id <= 10; id++) {
+            statistics.update(new VenueCost(id, (int) id * 10_000, 100, 1_000_000, null));
+        }
+
+        VenueCostSummary summary = statistics.getSummary();
+        CostStats mealPrice = summary.getMealPrice();
+        assertThat(summary.getVenueCount()).isEqualTo(10);
+        assertThat(mealPrice.getCount()).isEqualTo(10);
+        assertThat(mealPrice.getMin()).isEqualTo(10_000L);
+        assertThat(mealPrice.getAverage()).isEqualTo(55_000.0);
+        assertThat(mealPrice.getMedian()).isEqualTo(50_000L);
+        assertThat(mealPrice.getP90()).isEqualTo(90_000L);
+        assertThat(summary.getTotalCost().getMin()).isEqualTo(10_000L * 100 + 1_000_000);
+        assertThat(summary.getEtcFee().getCount()).isZero();
+        assertThat(summary.getEtcFee().getMedian()).isNull();
+    }
+
+    @Test
+    @DisplayName("getSummary: 변경 때 만든 스냅샷을 다음 변경까지 그대로 돌려준다")
+    void summaryIsPublishedPerChange() {
+        statistics.update(new VenueCost(1L, 50_000, 100, null, null));
+        VenueCostSummary first = statistics.getSummary();
+        assertThat(statistics.getSummary()).isSameAs(first);
+
+        statistics.update(new VenueCost(2L, 70_000, 100, null, null));
+        statistics.update(new VenueCost(3L, 90_000, 100, null, null));
+        VenueCostSummary changed = statistics.getSummary();
+        assertThat(changed).isNotSameAs(first);
+        assertThat(changed.getMealPrice().getMedian()).isEqualTo(70_000L);
+        assertThat(statistics.getSummary()).isSameAs(changed);
+    }
+
+    @Test
+    @DisplayName("중앙값/p90: 임의의 추가/수정/삭제 뒤에도 정렬해서 구한 nearest-rank 값과 같다")
+    void percentilesFollowRandomChanges() {
+        Random random = new Random(42);
+        Map<Long, Integer> mealPrices = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long postId = random.nextInt(60);
+            if (random.nextInt(4) == 0) {
+                statistics.remove(postId);
+                mealPrices.remove(postId);
+            } else {
+                // 같은 값이 자주 겹치도록 좁은 범위에서 고른다
+                int mealPrice = random.nextInt(15) * 1_000;
+                statistics.update(new VenueCost(postId, mealPrice, null, null, null));
+                mealPrices.put(postId, mealPrice);
+            }
+
+            List<Integer> sorted = mealPrices.values().stream().sorted().toList();
+            CostStats stats = statistics.getSummary().getMealPrice();
+            assertThat(stats.getCount()).isEqualTo(sorted.size());
+            if (sorted.isEmpty()) {
+                assertThat(stats.getMedian()).isNull();
+                continue;
+            }
+            int n = sorted.size();
+            assertThat(stats.getMedian()).isEqualTo(sorted.get((n + 1) / 2 - 1).longValue());
+            assertThat(stats.getP90()).isEqualTo(sorted.get((n * 9 + 9) / 10 - 1).longValue());
+        }
+    }
+
+    @Test
+    @DisplayName("총비용: 식대나 보증인원이 없으면 제외하고, 대관료/기타비용이 없으면 0으로 본다")
+    void totalCostNeedsMealPriceAndGuarantee() {
+        statistics.update(new VenueCost(1L, 50_000, 200, null, 500_000));
+        statistics.update(new VenueCost(2L, 60_000, null, 1_000_000, null));
+
+        CostStats total = statistics.getSummary().getTotalCost();
+        assertThat(total.getCount()).isEqualTo(1);
+        assertThat(total.getMin()).isEqualTo(10_500_000L);
+    }
+
+    @Test
+    @DisplayName("update/remove: 같은 글을 다시 반영하면 이전 값을 빼고, 삭제하면 통계에서 제외한다")
+    void replacesAndRemoves() {
+        statistics.update(new VenueCost(1L, 50_000, 100, null, null));
+        statistics.update(new VenueCost(2L, 70_000, 100, null, null));
+        statistics.update(new VenueCost(1L, 90_000, 100, null, null));
+
+        assertThat(statistics.getSummary().getMealPrice().getMin()).isEqualTo(70_000L);
+        assertThat(statistics.getSummary().getMealPrice().getCount()).isEqualTo(2);
+
+        statistics.remove(2L);
+        statistics.remove(3L);
+        assertThat(statistics.getSummary().getMealPrice().getAverage()).isEqualTo(90_000.0);
+        assertThat(statistics.getSummary().getVenueCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onPostChanged: 예식장 글의 생성/수정은 다시 읽어 반영하고, 삭제는 제외한다")
+    void appliesVenueEvents() {
+        Post post = post(1L, 50_000, 100);
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+
+        statistics.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.CREATED));
+        assertThat(statistics.getSummary().getMealPrice().getMedian()).isEqualTo(50_000L);
+
+        given(postRepository.findById(1L)).willReturn(Optional.of(post(1L, 80_000, 100)));
+        statistics.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.UPDATED));
+        assertThat(statistics.getSummary().getMealPrice().getMedian()).isEqualTo(80_000L);
+
+        statistics.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.DELETED));
+        assertThat(statistics.getSummary().getVenueCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("onPostChanged: 다른 게시판과 댓글 수 변경은 저장소를 조회하지 않는다")
+    void ignoresOtherEvents() {
+        statistics.onPostChanged(PostChangedEvent.of("GENERAL", 1L, Change.CREATED));
+        statistics.onPostChanged(PostChangedEvent.of("VENUE", 1L, Change.COMMENTS));
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("rebuild: 예식장 게시판의 비용을 한 번에 읽어 통계를 다시 만든다")
+    void rebuild() {
+        statistics.update(new VenueCost(99L, 1, 1, null, null));
+        given(postRepository.findVenueCostsByBoardCode("VENUE"))
+                .willReturn(List.of(new VenueCost(1L, 50_000, 100, null, null), new VenueCost(2L, 70_000, 100, null, null)));
+
+        statistics.rebuild();
+
+        assertThat(statistics.getSummary().getVenueCount()).isEqualTo(2);
+        assertThat(statistics.getSummary().getMealPrice().getMin()).isEqualTo(50_000L);
+    }
+
+    private Post post(Long id, Integer mealPrice, Integer guaranteeMin) {
+        Post post = Post.create(venue, "제목", "내용", author, null, mealPrice, guaranteeMin, null, null);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -0,0 +1,82 @@
+package com.wedding.board.application.venue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+import com.wedding.board.application.venue.VenueFilter.Sort;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.post.VenueSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VenueQueryService")
+class VenueQueryServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private VenueQueryService venueQueryService;
+
+    @Test
+    @DisplayName("getVenues: 비용순 첫 페이지는 최소 커서와 총비용 상한으로 조회하고, 다음 커서를 이어 쓴다")
+    void totalCostSortPagesWithCursor() {
+        VenueFilter filter = VenueFilter.of(40_000, 60_000, 300, null, Sort.TOTAL_COST);
+        given(postRepository.findVenuesByTotalCost(eq("VENUE"), eq(Long.MIN_VALUE), eq(0L), eq(Long.MAX_VALUE),
+                eq(40_000), eq(60_000), eq(300), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(venue(7L, 9_000_000L)), PageRequest.of(0, 1), true));
+
+        VenueSlice first = venueQueryService.getVenues(filter, null, 1);
+
+        assertThat(first.hasNext()).isTrue();
+        given(postRepository.findVenuesByTotalCost(eq("VENUE"), eq(9_000_000L), eq(7L), eq(Long.MAX_VALUE),
+                eq(40_000), eq(60_000), eq(300), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(venue(3L, 9_500_000L)), PageRequest.of(0, 1), false));
+
+        VenueSlice second = venueQueryService.getVenues(filter, first.getNextCursor(), 1);
+
+        assertThat(second.getContent()).extracting(VenueSummary::getId).containsExactly(3L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getVenues: 최신순은 조건을 그대로 넘기고, 식대 범위가 뒤집히면 바로잡는다")
+    void latestSortPassesFilter() {
+        VenueFilter filter = VenueFilter.of(80_000, 50_000, null, 20_000_000L, Sort.LATEST);
+        given(postRepository.findVenuesByLatest(eq("VENUE"), any(LocalDateTime.class), eq(Long.MAX_VALUE),
+                eq(20_000_000L), eq(50_000), eq(80_000), isNull(), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        VenueSlice slice = venueQueryService.getVenues(filter, null, 10);
+
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getVenues: 잘못된 커서는 IllegalArgumentException")
+    void rejectsInvalidCursor() {
+        VenueFilter filter = VenueFilter.of(null, null, null, null, Sort.TOTAL_COST);
+
+        assertThatThrownBy(() -> venueQueryService.getVenues(filter, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private VenueSummary venue(Long id, Long totalCost) {
+        return new VenueSummary(id, "홀" + id, "user1", LocalDateTime.now(), 0, "강남", 50_000, 100, totalCost);
+    }
+}
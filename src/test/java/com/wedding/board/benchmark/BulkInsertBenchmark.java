@@ -0,0 +1,112 @@
+package com.wedding.board.benchmark;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 게시글/댓글 INSERT 처리량(rows/sec) 비교: 건별 생성 API vs 일괄 생성 API.
+ * 일반 test 에서는 제외되며 {@code gradlew benchmark} 로 실행한다.
+ * batch를 끈 수치는 {@code -Dspring.jpa.properties.hibernate.jdbc.batch_size=1} 로 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BulkInsertBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int CHUNK = 1_000;
+    private static final int WARMUP_ROWS = 1_000;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        authorId = userRepository.findByUsername("bench")
+                .orElseGet(() -> userRepository.save(User.create("bench", "encoded")))
+                .getId();
+    }
+
+    @Test
+    void posts() {
+        IntFunction<CreatePostCommand> command = i ->
+                new CreatePostCommand("GENERAL", "제목" + i, "내용", authorId, null, null, null, null, null);
+        bulkPosts(command, WARMUP_ROWS);
+        singlePosts(command, WARMUP_ROWS);
+
+        report("posts", "single", measure(() -> singlePosts(command, ROWS)));
+        report("posts", "bulk", measure(() -> bulkPosts(command, ROWS)));
+    }
+
+    @Test
+    void comments() {
+        Long postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "댓글 벤치마크", "내용", authorId, null, null, null, null, null));
+        IntFunction<CreateCommentCommand> command = i -> new CreateCommentCommand("댓글" + i, postId, authorId, null);
+        bulkComments(command, WARMUP_ROWS);
+        singleComments(command, WARMUP_ROWS);
+
+        report("comments", "single", measure(() -> singleComments(command, ROWS)));
+        report("comments", "bulk", measure(() -> bulkComments(command, ROWS)));
+    }
+
+    private void singlePosts(IntFunction<CreatePostCommand> command, int rows) {
+        IntStream.range(0, rows).forEach(i -> postApplicationService.createPost(command.apply(i)));
+    }
+
+    private void bulkPosts(IntFunction<CreatePostCommand> command, int rows) {
+        for (int from = 0; from < rows; from += CHUNK) {
+            postApplicationService.createPosts(chunk(command, from, Math.min(rows, from + CHUNK)));
+        }
+    }
+
+    private void singleComments(IntFunction<CreateCommentCommand> command, int rows) {
+        IntStream.range(0, rows).forEach(i -> commentApplicationService.createComment("GENERAL", command.apply(i)));
+    }
+
+    private void bulkComments(IntFunction<CreateCommentCommand> command, int rows) {
+        for (int from = 0; from < rows; from += CHUNK) {
+            commentApplicationService.createComments(chunk(command, from, Math.min(rows, from + CHUNK)));
+        }
+    }
+
+    private static <T> List<T> chunk(IntFunction<T> command, int from, int to) {
+        List<T> commands = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            commands.add(command.apply(i));
+        }
+        return commands;
+    }
+
+    private static long measure(Runnable body) {
+        long start = System.nanoTime();
+        body.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String entity, String mode, long elapsedNanos) {
+        double rowsPerSecond = ROWS / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("[benchmark] %-8s %-6s %,d rows in %,d ms -> %,.0f rows/sec%n",
+                entity, mode, ROWS, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+}
@@ -0,0 +1,157 @@
+package com.wedding.board.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.HotPost;
+import com.wedding.board.application.post.HotPostRanking;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.application.search.PostSearchIndex;
+import com.wedding.board.domain.user.UserRepository;
+import com.wedding.board.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내장 H2 두 개(primary, replica)로 읽기 라우팅과 read-your-writes 를 확인한다.
+ * 복제본은 syncNow 를 호출할 때만 따라온다 (interval 0s).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "board.datasource.replica.enabled=true",
+        "board.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "board.datasource.replica.local-sync.enabled=true",
+        "board.datasource.replica.local-sync.interval=0s"
+})
+@AutoConfigureMockMvc
+@DisplayName("읽기 복제본 라우팅")
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocalReplicaSync localReplicaSync;
+
+    @Autowired
+    private ApplicationListener<ApplicationReadyEvent> localReplicaSyncStarter;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CustomUserDetails writer;
+    private CustomUserDetails reader;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaRoutingDataSource.release();
+        writer = new CustomUserDetails(userRepository.findByUsername("user1").orElseThrow()).withoutPassword();
+        reader = new CustomUserDetails(userRepository.findByUsername("user2").orElseThrow()).withoutPassword();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.release();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 읽으므로 동기화 전에는 새 글이 보이지 않는다")
+    void readOnlyTransactionUsesReplica() {
+        Long postId = createPost("복제 전");
+        ReplicaRoutingDataSource.release();
+
+        assertThatThrownBy(() -> postApplicationService.getPost(postId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        localReplicaSync.syncNow();
+        assertThat(postApplicationService.getPost(postId).getTitle()).isEqualTo("복제 전");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 실행한 스레드는 이후 읽기도 primary 에서 한다")
+    void writerThreadStaysOnPrimary() {
+        Long postId = createPost("같은 작업 단위");
+
+        assertThat(ReplicaRoutingDataSource.hasWritten()).isTrue();
+        assertThat(postApplicationService.getPost(postId).getTitle()).isEqualTo("같은 작업 단위");
+    }
+
+    @Test
+    @DisplayName("댓글을 쓴 사용자는 다음 요청에서 자기 댓글을 보고, 다른 사용자는 동기화 후에 본다")
+    void readYourWrites() throws Exception {
+        Long postId = createPost("read-your-writes");
+        localReplicaSync.syncNow();
+        ReplicaRoutingDataSource.release();
+
+        mockMvc.perform(post("/boards/GENERAL/posts/" + postId + "/comments").with(user(writer)).with(csrf())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("content", "방금 쓴 댓글"))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(detail(postId, writer)).contains("방금 쓴 댓글");
+        assertThat(detail(postId, reader)).doesNotContain("방금 쓴 댓글");
+
+        localReplicaSync.syncNow();
+        assertThat(detail(postId, reader)).contains("방금 쓴 댓글");
+    }
+
+    @Test
+    @DisplayName("rebuild 하는 색인/순위는 읽기 전용 트랜잭션 안에서도 primary 에서 읽어 동기화 전의 글을 놓치지 않는다")
+    void rebuildsReadPrimary() {
+        Long postId = createPost("rebuild 대상");
+        ReplicaRoutingDataSource.release();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            postSearchIndex.rebuild();
+            hotPostRanking.rebuild();
+        });
+
+        assertThat(postSearchIndex.search("GENERAL", "rebuild")).contains(postId);
+        assertThat(hotPostRanking.top("GENERAL")).extracting(HotPost::getId).contains(postId);
+        assertThat(localReplicaSyncStarter).isInstanceOf(Ordered.class);
+        assertThat(((Ordered) localReplicaSyncStarter).getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    private Long createPost(String title) {
+        return postApplicationService.createPost(new CreatePostCommand(
+                "GENERAL", title, "내용", writer.getId(), null, null, null, null, null));
+    }
+
+    private String detail(Long postId, CustomUserDetails viewer) throws Exception {
+        return mockMvc.perform(get("/boards/GENERAL/posts/" + postId).with(user(viewer)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
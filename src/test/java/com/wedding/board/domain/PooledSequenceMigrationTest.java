@@ -0,0 +1,68 @@
+package com.wedding.board.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * IDENTITY 로 쌓인 행이 있는 DB에서 V2(pooled 시퀀스 전환)를 적용해도 새 id가 기존 행과 겹치지 않는다.
+ * 컨텍스트가 뜨기 전에 V1 까지만 적용하고 행을 넣어 두면, 앱의 Flyway 가 V2 부터 이어서 적용한다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + PooledSequenceMigrationTest.URL)
+@DisplayName("V2 pooled 시퀀스 마이그레이션")
+class PooledSequenceMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:seeded-before-v2;DB_CLOSE_DELAY=-1";
+
+    private static final int SEEDED_POSTS = 3;
+    private static final int SEEDED_COMMENTS = 2;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @BeforeAll
+    static void seedBeforeV2() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target("1").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO boards (code, name) VALUES ('GENERAL', '자유게시판'), ('VENUE', '예식장')");
+        jdbc.update("INSERT INTO users (username, password, role) VALUES ('legacy', 'encoded', 'USER')");
+        for (int i = 0; i < SEEDED_POSTS; i++) {
+            jdbc.update("INSERT INTO posts (board_code, title, content, author_id, created_at, updated_at) "
+                    + "SELECT 'GENERAL', '기존 글', '내용', id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM users WHERE username = 'legacy'");
+        }
+        for (int i = 0; i < SEEDED_COMMENTS; i++) {
+            jdbc.update("INSERT INTO comments (post_id, author_id, content, created_at) "
+                    + "SELECT MAX(p.id), MAX(u.id), '기존 댓글', CURRENT_TIMESTAMP FROM posts p, users u");
+        }
+    }
+
+    @Test
+    @DisplayName("전환 전 행이 있어도 새 글/댓글은 기존 id 뒤의 id를 받는다")
+    void newIdsDoNotCollide() {
+        Long authorId = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""))
+                .queryForObject("SELECT id FROM users WHERE username = 'legacy'", Long.class);
+
+        Long postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "새 글", "내용", authorId, null, null, null, null, null));
+        Long commentId = commentApplicationService.createComment("GENERAL",
+                new CreateCommentCommand("새 댓글", postId, authorId, null));
+
+        assertThat(postId).isGreaterThan(SEEDED_POSTS);
+        assertThat(commentId).isGreaterThan(SEEDED_COMMENTS);
+    }
+}
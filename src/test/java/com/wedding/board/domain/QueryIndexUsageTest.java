@@ -0,0 +1,173 @@
+package com.wedding.board.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wedding.board.domain.comment.CommentRepository;
+import com.wedding.board.domain.post.PostRepository;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Repository 쿼리가 실제로 실행하는 SQL을 가로채 EXPLAIN 하고,
+ * 테이블 풀스캔이나 인덱스를 쓰지 못하는 정렬이 생기면 실패한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.wedding.board.domain.QueryIndexUsageTest$SqlCapture")
+@DisplayName("Repository 쿼리 인덱스 사용 (EXPLAIN)")
+class QueryIndexUsageTest {
+
+    private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Map<String, Runnable> repositoryQueries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("PostRepository.findSliceByBoardCode",
+                () -> postRepository.findSliceByBoardCode("GENERAL", PageRequest.of(0, 10)));
+        queries.put("PostRepository.findOlderSliceByBoardCode",
+                () -> postRepository.findOlderSliceByBoardCode("GENERAL", CURSOR_TIME, 10L, PageRequest.of(0, 10)));
+        queries.put("PostRepository.findNewerSliceByBoardCode",
+                () -> postRepository.findNewerSliceByBoardCode("GENERAL", CURSOR_TIME, 10L, PageRequest.of(0, 10)));
+        queries.put("PostRepository.findSummariesByIdIn",
+                () -> postRepository.findSummariesByIdIn(List.of(1L, 2L, 3L)));
+        queries.put("PostRepository.findIndexBatchAfter",
+                () -> postRepository.findIndexBatchAfter(0L, PageRequest.of(0, 500)));
+        queries.put("PostRepository.findVenuesByTotalCost",
+                () -> postRepository.findVenuesByTotalCost("VENUE", 5_000_000L, 10L, 20_000_000L, 50_000, 80_000, 200,
+                        PageRequest.of(0, 10)));
+        queries.put("PostRepository.findVenuesByLatest",
+                () -> postRepository.findVenuesByLatest("VENUE", CURSOR_TIME, 10L, null, 50_000, null, 200,
+                        PageRequest.of(0, 10)));
+        queries.put("PostRepository.findVenueCostsByBoardCode",
+                () -> postRepository.findVenueCostsByBoardCode("VENUE"));
+        queries.put("PostRepository.adjustCommentCount",
+                () -> postRepository.adjustCommentCount(1L, "GENERAL", 1, CURSOR_TIME));
+        queries.put("PostRepository.markCommentsUpdated",
+                () -> postRepository.markCommentsUpdated(1L, CURSOR_TIME));
+        queries.put("PostRepository.updateContent",
+                () -> postRepository.updateContent(1L, "VENUE", "제목", "내용", "서울", 50_000, 200, 1_000_000, null,
+                        11_000_000L, CURSOR_TIME));
+        queries.put("PostRepository.deleteByIdAndBoardCode",
+                () -> postRepository.deleteByIdAndBoardCode(1L, "GENERAL"));
+        queries.put("CommentRepository.findThreadByPostId",
+                () -> commentRepository.findThreadByPostId(1L));
+        queries.put("CommentRepository.findRootPage",
+                () -> commentRepository.findRootPage(1L, "0000000010", PageRequest.of(0, 20)));
+        queries.put("CommentRepository.findSubtreePage",
+                () -> commentRepository.findSubtreePage(1L, "0000000010.", "0000000010/", PageRequest.of(0, 50)));
+        queries.put("CommentRepository.countRepliesByRoot",
+                () -> commentRepository.countRepliesByRoot(1L, "0000000010", "0000000030/"));
+        queries.put("CommentRepository.detachRepliesByPostId",
+                () -> commentRepository.detachRepliesByPostId(1L));
+        queries.put("CommentRepository.deleteThreadByPostId",
+                () -> commentRepository.deleteThreadByPostId(1L));
+        queries.put("CommentRepository.updateContentByAuthor",
+                () -> commentRepository.updateContentByAuthor(1L, 1L, 1L, "수정"));
+        queries.put("CommentRepository.markDeletedByAuthor",
+                () -> commentRepository.markDeletedByAuthor(1L, 1L, 1L));
+        return queries;
+    }
+
+    @TestFactory
+    @DisplayName("모든 repository 쿼리는 인덱스로 조회/정렬한다")
+    Stream<DynamicTest> everyQueryUsesAnIndex() {
+        return repositoryQueries().entrySet().stream()
+                .map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+                    List<String> statements = capture(entry.getValue());
+                    assertThat(statements).isNotEmpty();
+                    for (String sql : statements) {
+                        String plan = explain(sql);
+                        assertThat(plan).as(plan).doesNotContain("tableScan");
+                        if (sql.toLowerCase(Locale.ROOT).contains(" order by ")) {
+                            assertThat(plan).as(plan).contains("index sorted");
+                        }
+                    }
+                }));
+    }
+
+    @Test
+    @DisplayName("repository에 선언된 모든 쿼리 메서드가 EXPLAIN 대상에 포함되어 있다")
+    void everyQueryMethodIsCovered() {
+        Set<String> declared = Stream.of(PostRepository.class, CommentRepository.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                        .map(Method::getName)
+                        .map(name -> type.getSimpleName() + "." + name))
+                .collect(Collectors.toSet());
+
+        assertThat(repositoryQueries().keySet()).containsAll(declared);
+    }
+
+    private List<String> capture(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+        return new ArrayList<>(SqlCapture.STATEMENTS);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    /** Hibernate가 생성한 SQL을 기록한다 (이 테스트 컨텍스트에서만 등록) */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
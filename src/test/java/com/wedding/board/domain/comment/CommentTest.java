@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.wedding.board.domain.board.Board;
 import com.wedding.board.domain.post.Post;
 import com.wedding.board.domain.user.User;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -25,4 +26,40 @@ class CommentTest {
         assertThat(comment.getAuthor()).isEqualTo(author);
         assertThat(comment.getCreatedAt()).isNotNull();
     }
+
+    @Test
+    @DisplayName("materializePath: 부모 path 뒤에 자신의 id를 고정폭으로 붙이고 깊이를 기록한다")
+    void materializePath() {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        Comment root = Comment.create("댓글", post, author);
+        ReflectionTestUtils.setField(root, "id", 7L);
+        root.materializePath();
+        Comment reply = Comment.createReply("답글", post, author, root);
+        ReflectionTestUtils.setField(reply, "id", 12L);
+        reply.materializePath();
+
+        assertThat(root.getDepth()).isZero();
+        assertThat(root.getPath()).isEqualTo("0000000007");
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(reply.getPath()).isEqualTo("0000000007.0000000012");
+        assertThat(root.getPath()).isLessThan(reply.getPath());
+    }
+
+    @Test
+    @DisplayName("MAX_DEPTH: 가장 깊은 답글의 path 가 path 컬럼 길이에 꼭 맞는다")
+    void maxDepthFitsPathColumn() {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        Comment comment = Comment.create("댓글", post, author);
+        ReflectionTestUtils.setField(comment, "id", 9_999_999_999L);
+        comment.materializePath();
+        while (comment.getDepth() < Comment.MAX_DEPTH) {
+            comment = Comment.createReply("답글", post, author, comment);
+            ReflectionTestUtils.setField(comment, "id", 9_999_999_999L);
+            comment.materializePath();
+        }
+
+        assertThat(comment.getPath()).hasSize(Comment.PATH_MAX_LENGTH);
+    }
 }
@@ -27,16 +27,15 @@ class PostTest {
     }
 
     @Test
-    @DisplayName("update: 제목과 내용을 수정하고 updatedAt이 갱신된다")
-    void update() {
+    @DisplayName("create: 식대 x 보증인원 + 대관료 + 기타비용으로 총비용을 계산해 두고, 식대나 보증인원이 없으면 비워 둔다")
+    void totalCost() {
         User author = User.create("user1", "encoded");
-        Post post = Post.create(board, "원래 제목", "원래 내용", author, null, null, null, null, null);
-        var createdAt = post.getCreatedAt();
+        Post post = Post.create(Board.of("VENUE", "예식장"), "홀", "내용", author, "강남", 50_000, 200, 1_000_000, null);
 
-        post.update("수정된 제목", "수정된 내용", null, null, null, null, null);
+        assertThat(post.getTotalCost()).isEqualTo(11_000_000L);
 
-        assertThat(post.getTitle()).isEqualTo("수정된 제목");
-        assertThat(post.getContent()).isEqualTo("수정된 내용");
-        assertThat(post.getUpdatedAt()).isAfterOrEqualTo(createdAt);
+        Post withoutMealPrice = Post.create(Board.of("VENUE", "예식장"), "홀", "내용", author, "강남",
+                null, 200, 1_000_000, null);
+        assertThat(withoutMealPrice.getTotalCost()).isNull();
     }
 }
@@ -0,0 +1,108 @@
+package com.wedding.board.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@DisplayName("요청 지표 (타이머, SQL 문장 수, Prometheus)")
+class RequestMetricsTest {
+
+    private static final String DETAIL_URI = "/boards/{boardCode}/posts/{id}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.create("metrics-user", "encoded"));
+        postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "제목", "내용", author.getId(), null, null, null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postApplicationService.deletePost("GENERAL", postId);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("상세 조회: 엔드포인트별 SQL 문장 수, 서비스 타이머, 렌더링 타이머를 남긴다")
+    void detail() throws Exception {
+        long before = sqlStatementRequests();
+
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId)).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get(RequestMetricsInterceptor.SQL_STATEMENTS)
+                .tag("method", "GET").tag("uri", DETAIL_URI).summary();
+        assertThat(statements.count()).isEqualTo(before + 1);
+        assertThat(statements.max()).isPositive();
+        assertThat(meterRegistry.get("board.service")
+                .tag("class", PostApplicationService.class.getName()).tag("method", "getPost").timer().count()).isPositive();
+        assertThat(meterRegistry.get(RequestMetricsInterceptor.VIEW_RENDER)
+                .tag("view", "posts/detail").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("/actuator/prometheus: 타이머 히스토그램과 커넥션 풀 지표를 Prometheus 형식으로 노출한다")
+    void prometheus() throws Exception {
+        mockMvc.perform(get("/boards/GENERAL/posts")).andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/actuator/prometheus").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("board_http_sql_statements_count{method=\"GET\",uri=\"/boards/{boardCode}/posts\",}")
+                .contains("spring_data_repository_invocations_seconds")
+                .contains("hikaricp_connections_active");
+    }
+
+    @Test
+    @DisplayName("/actuator/prometheus, /actuator/metrics: ADMIN 이 아니면 막고, /actuator/health 는 공개한다")
+    void metricsRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("user1"))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("user1"))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/actuator/metrics").with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    private long sqlStatementRequests() {
+        DistributionSummary summary = meterRegistry.find(RequestMetricsInterceptor.SQL_STATEMENTS)
+                .tag("method", "GET").tag("uri", DETAIL_URI).summary();
+        return summary == null ? 0 : summary.count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.wedding.board.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionPrincipalAuthenticationProvider")
+class SessionPrincipalAuthenticationProviderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    /** 운영과 같은 BCrypt. 테스트가 느려지지 않게 최소 강도(4)로 둔다 */
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private UserDetailsCache userDetailsCache;
+    private SessionPrincipalAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        provider = new SessionPrincipalAuthenticationProvider(
+                new CustomUserDetailsService(userRepository), passwordEncoder, userDetailsCache);
+    }
+
+    @Test
+    @DisplayName("authenticate: 세션 principal 은 비밀번호 없이 id/username/role 만 가진다")
+    void authenticate_leanPrincipal() {
+        givenUser("user1", "pw");
+
+        Authentication result = provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "pw"));
+
+        CustomUserDetails principal = (CustomUserDetails) result.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("user1");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("authenticate: 두 번째 로그인부터는 캐시된 사용자로 검증한다")
+    void authenticate_cached() {
+        givenUser("user1", "pw");
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "pw"));
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "pw"));
+
+        verify(userRepository, times(1)).findByUsername("user1");
+        assertThat(passwordEncoder.matches("pw", userDetailsCache.getUserFromCache("user1").getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("evict: 무효화하면 다음 로그인에서 DB를 다시 읽는다")
+    void evict() {
+        givenUser("user1", "pw");
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "pw"));
+
+        userDetailsCache.evict("user1");
+        provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "pw"));
+
+        verify(userRepository, times(2)).findByUsername("user1");
+    }
+
+    @Test
+    @DisplayName("authenticate: 비밀번호가 틀리면 예외가 발생한다")
+    void authenticate_badCredentials() {
+        givenUser("user1", "pw");
+
+        assertThatThrownBy(() -> provider.authenticate(new UsernamePasswordAuthenticationToken("user1", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    private void givenUser(String username, String password) {
+        User user = User.create(username, passwordEncoder.encode(password));
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+    }
+}
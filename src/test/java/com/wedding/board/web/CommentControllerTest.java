@@ -1,14 +1,19 @@
 package com.wedding.board.web;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CommentPage;
 import com.wedding.board.application.comment.CreateCommentCommand;
 import com.wedding.board.application.post.PostApplicationService;
 import com.wedding.board.domain.board.Board;
@@ -24,6 +29,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(CommentController.class)
@@ -51,7 +57,7 @@ class CommentControllerTest {
     @DisplayName("POST /boards/{boardCode}/posts/{postId}/comments: 댓글을 등록한다")
     void create() throws Exception {
         TestSecurityUtils.setMockUser(1L);
-        given(commentApplicationService.createComment(any(CreateCommentCommand.class))).willReturn(1L);
+        given(commentApplicationService.createComment(eq("GENERAL"), any(CreateCommentCommand.class))).willReturn(1L);
 
         mockMvc.perform(post("/boards/GENERAL/posts/1/comments")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -59,7 +65,7 @@ class CommentControllerTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/boards/GENERAL/posts/1#comments"));
 
-        verify(commentApplicationService).createComment(any(CreateCommentCommand.class));
+        verify(commentApplicationService).createComment(eq("GENERAL"), any(CreateCommentCommand.class));
     }
 
     @Test
@@ -77,4 +83,26 @@ class CommentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("posts/detail"));
     }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts/{postId}/comments/{commentId}/replies: 답글 한 페이지를 fragment로 그린다")
+    void replies() throws Exception {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment root = Comment.create("루트", post, author);
+        ReflectionTestUtils.setField(root, "id", 1L);
+        root.materializePath();
+        Comment reply = Comment.createReply("답글 내용", post, author, root);
+        ReflectionTestUtils.setField(reply, "id", 2L);
+        reply.materializePath();
+        given(postApplicationService.getPost(1L)).willReturn(post);
+        given(commentApplicationService.getReplies(1L, 1L, null, CommentController.REPLY_PAGE_SIZE))
+                .willReturn(CommentPage.replies(List.of(reply), 1, "next"));
+
+        mockMvc.perform(get("/boards/GENERAL/posts/1/comments/1/replies"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("답글 내용")))
+                .andExpect(content().string(containsString("/boards/GENERAL/posts/1/comments/1/replies?after=next")));
+    }
 }
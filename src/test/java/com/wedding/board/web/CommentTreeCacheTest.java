@@ -0,0 +1,130 @@
+package com.wedding.board.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.comment.UpdateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import com.wedding.board.security.CustomUserDetails;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("CommentTreeCache")
+class CommentTreeCacheTest {
+
+    private static final Pattern CSRF_META = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+    private User other;
+    private Long postId;
+    private Long writerCommentId;
+    private Long otherCommentId;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.create("tree-writer", "encoded"));
+        other = userRepository.save(User.create("tree-other", "encoded"));
+        postId = postApplicationService.createPost(new CreatePostCommand(
+                "GENERAL", "트리 캐시", "내용", writer.getId(), null, null, null, null, null));
+        writerCommentId = commentApplicationService.createComment("GENERAL",
+                new CreateCommentCommand("작성자 댓글", postId, writer.getId(), null));
+        otherCommentId = commentApplicationService.createComment("GENERAL",
+                new CreateCommentCommand("다른 사람 답글", postId, other.getId(), writerCommentId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postApplicationService.deletePost("GENERAL", postId);
+        userRepository.delete(writer);
+        userRepository.delete(other);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 댓글을 읽지 않고 렌더링된 트리를 재사용한다")
+    void reusesRenderedTree() throws Exception {
+        MvcResult first = view(writer);
+        MvcResult second = view(writer);
+
+        assertThat(SqlBudget.statements(first)).anyMatch(sql -> sql.contains("from comments"));
+        assertThat(SqlBudget.statements(second)).noneMatch(sql -> sql.contains("from comments"));
+        assertThat(body(second)).contains("작성자 댓글", "다른 사람 답글");
+    }
+
+    @Test
+    @DisplayName("캐시된 트리에는 수정/삭제 버튼 없이 작성자 id만 두고, CSRF 토큰과 현재 사용자 id는 보는 사람 것을 쓴다")
+    void overlaysViewer() throws Exception {
+        String asWriter = body(view(writer));
+        String asOther = body(view(other));
+
+        for (String html : new String[]{asWriter, asOther}) {
+            assertThat(html).doesNotContain("comment-delete-btn", "data-owner")
+                    .contains("data-author-id=\"" + writer.getId() + "\"", "data-author-id=\"" + other.getId() + "\"");
+        }
+        assertThat(asWriter).contains("data-current-user-id=\"" + writer.getId() + "\"");
+        assertThat(asOther).contains("data-current-user-id=\"" + other.getId() + "\"");
+
+        String token = csrfToken(asOther);
+        assertThat(token).isNotEqualTo(csrfToken(asWriter));
+        assertThat(asOther).contains("name=\"_csrf\" value=\"" + token + "\"")
+                .doesNotContain(csrfToken(asWriter));
+    }
+
+    @Test
+    @DisplayName("댓글을 수정하면 커밋 이후 그 글의 캐시를 비운다")
+    void evictsOnCommentWrite() throws Exception {
+        view(writer);
+
+        commentApplicationService.updateComment(postId, writerCommentId, new UpdateCommentCommand("고친 댓글"), writer.getId());
+        assertThat(body(view(writer))).contains("고친 댓글").doesNotContain("작성자 댓글");
+
+        commentApplicationService.deleteComment("GENERAL", postId, otherCommentId, other.getId());
+        assertThat(body(view(writer))).contains("삭제된 답글입니다").doesNotContain("다른 사람 답글");
+    }
+
+    private MvcResult view(User viewer) throws Exception {
+        return mockMvc.perform(get("/boards/GENERAL/posts/" + postId)
+                        .with(user(new CustomUserDetails(viewer).withoutPassword())))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private static String body(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    private static String csrfToken(String html) {
+        Matcher matcher = CSRF_META.matcher(html);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.wedding.board.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.application.post.UpdatePostCommand;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import javax.persistence.EntityManagerFactory;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@DisplayName("조건부 GET (ETag / Last-Modified)")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /** 같은 브라우저 세션 (CSRF 토큰이 유지된다) */
+    private final MockHttpSession session = new MockHttpSession();
+
+    private User author;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.create("etag-user", "encoded"));
+        postId = postApplicationService.createPost(
+                new CreatePostCommand("GENERAL", "제목", "내용", author.getId(), null, null, null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postApplicationService.deletePost("GENERAL", postId);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("상세: 바뀐 것이 없으면 글 조회 한 번만 하고 304를 반환한다")
+    void detailNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get(detailUrl()).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(detailUrl()).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상세: 댓글이 바뀌면 새 ETag로 다시 렌더링한다")
+    void detailChangesWithComments() throws Exception {
+        String etag = mockMvc.perform(get(detailUrl()).session(session))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        commentApplicationService.createComment("GENERAL", new CreateCommentCommand("새 댓글", postId, author.getId(), null));
+
+        MvcResult changed = mockMvc.perform(get(detailUrl()).session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changed.getResponse().getContentAsString()).contains("새 댓글");
+    }
+
+    @Test
+    @DisplayName("목록: 게시판에 쓰기가 없으면 weak ETag로 304, 쓰기가 있으면 다시 렌더링한다")
+    void listFollowsBoardWrites() throws Exception {
+        String etag = mockMvc.perform(get("/boards/GENERAL/posts").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/boards/GENERAL/posts").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/boards/VENUE/posts").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        postApplicationService.updatePost("GENERAL", postId,
+                new UpdatePostCommand("새 제목", "내용", null, null, null, null, null));
+
+        mockMvc.perform(get("/boards/GENERAL/posts").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("새 제목")));
+    }
+
+    private String detailUrl() {
+        return "/boards/GENERAL/posts/" + postId;
+    }
+}
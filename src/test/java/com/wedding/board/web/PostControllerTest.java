@@ -1,13 +1,18 @@
 package com.wedding.board.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
@@ -15,24 +20,45 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CommentPage;
+import com.wedding.board.application.post.BoardVersions;
 import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.HotPost;
+import com.wedding.board.application.post.HotPostRanking;
 import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.application.post.PostSlice;
+import com.wedding.board.application.post.PostViewCounter;
 import com.wedding.board.application.post.UpdatePostCommand;
+import com.wedding.board.application.search.PostSearchService;
+import com.wedding.board.application.venue.VenueCostStatistics;
+import com.wedding.board.application.venue.VenueCostSummary;
+import com.wedding.board.application.venue.VenueFilter;
+import com.wedding.board.application.venue.VenueQueryService;
+import com.wedding.board.application.venue.VenueSlice;
 import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.comment.Comment;
 import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostSummary;
+import com.wedding.board.domain.post.VenueCost;
+import com.wedding.board.domain.post.VenueSummary;
 import com.wedding.board.domain.user.User;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(PostController.class)
@@ -49,6 +75,27 @@ class PostControllerTest {
     @MockBean
     private CommentApplicationService commentApplicationService;
 
+    @MockBean
+    private PostSearchService postSearchService;
+
+    @MockBean
+    private VenueCostStatistics venueCostStatistics;
+
+    @MockBean
+    private VenueQueryService venueQueryService;
+
+    @MockBean
+    private BoardVersions boardVersions;
+
+    @MockBean
+    private CommentTreeCache commentTreeCache;
+
+    @MockBean
+    private PostViewCounter postViewCounter;
+
+    @MockBean
+    private HotPostRanking hotPostRanking;
+
     private final Board board = Board.of("GENERAL", "자유게시판");
 
     @AfterEach
@@ -59,10 +106,9 @@ class PostControllerTest {
     @Test
     @DisplayName("GET /boards/{boardCode}/posts: 게시글 목록을 조회한다")
     void list() throws Exception {
-        User author = User.create("user1", "encoded");
-        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
-        Page<Post> page = new PageImpl<>(List.of(post));
-        given(postApplicationService.getPosts(eq("GENERAL"), any(PageRequest.class))).willReturn(page);
+        PostSummary post = new PostSummary(1L, "GENERAL", "제목", "user1", LocalDateTime.now(), 0, 0);
+        PostSlice slice = PostSlice.of(List.of(post), false, false);
+        given(postApplicationService.getPosts(eq("GENERAL"), isNull(), isNull(), eq(10))).willReturn(slice);
 
         mockMvc.perform(get("/boards/GENERAL/posts"))
                 .andExpect(status().isOk())
@@ -70,7 +116,129 @@ class PostControllerTest {
                 .andExpect(model().attributeExists("posts"))
                 .andExpect(model().attribute("boardCode", "GENERAL"));
 
-        verify(postApplicationService).getPosts(eq("GENERAL"), any(PageRequest.class));
+        verify(postApplicationService).getPosts(eq("GENERAL"), isNull(), isNull(), eq(10));
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts: 목록 상단에 지금 인기 글을 보여준다")
+    void list_showsHotPosts() throws Exception {
+        given(postApplicationService.getPosts(eq("GENERAL"), isNull(), isNull(), eq(10)))
+                .willReturn(PostSlice.of(List.of(), false, false));
+        given(hotPostRanking.top("GENERAL")).willReturn(List.of(HotPost.of(7L, "인기 글")));
+
+        mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("지금 인기")))
+                .andExpect(content().string(Matchers.containsString("href=\"/boards/GENERAL/posts/7\">인기 글</a>")));
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts: 지금 인기 순위가 바뀌면 게시판 쓰기가 없어도 ETag가 바뀐다")
+    void list_etagFollowsHotPosts() throws Exception {
+        given(postApplicationService.getPosts(eq("GENERAL"), isNull(), isNull(), eq(10)))
+                .willReturn(PostSlice.of(List.of(), false, false));
+        given(boardVersions.current("GENERAL")).willReturn("v.1");
+        given(hotPostRanking.version("GENERAL")).willReturn(1L);
+        String etag = mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/boards/GENERAL/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        given(hotPostRanking.version("GENERAL")).willReturn(2L);
+        mockMvc.perform(get("/boards/GENERAL/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /boards/VENUE/posts: 예식장 목록에는 비용 통계 패널을 보여준다")
+    void list_venueShowsCostStats() throws Exception {
+        given(postApplicationService.getPosts(eq("VENUE"), isNull(), isNull(), eq(10)))
+                .willReturn(PostSlice.of(List.of(), false, false));
+        given(venueCostStatistics.getSummary()).willReturn(venueSummary());
+
+        mockMvc.perform(get("/boards/VENUE/posts"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("venueStats"))
+                .andExpect(content().string(Matchers.containsString("비용 통계 (예식장 1곳)")))
+                .andExpect(content().string(Matchers.containsString("5,500,000")));
+    }
+
+    @Test
+    @DisplayName("GET /boards/VENUE/posts?sort=cost: 조건과 비용순 정렬로 예식장 목록을 조회한다")
+    void list_venueFilter() throws Exception {
+        given(venueCostStatistics.getSummary()).willReturn(venueSummary());
+        VenueSlice venues = VenueSlice.of(List.of(new VenueSummary(
+                3L, "강남홀", "user1", LocalDateTime.now(), 0, "강남", 55_000, 150, 9_250_000L)), "next");
+        given(venueQueryService.getVenues(any(VenueFilter.class), isNull(), eq(10))).willReturn(venues);
+
+        mockMvc.perform(get("/boards/VENUE/posts")
+                        .param("mealPriceMin", "50000")
+                        .param("guaranteeMax", "200")
+                        .param("sort", "cost"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("posts/list"))
+                .andExpect(model().attributeDoesNotExist("posts"))
+                .andExpect(content().string(Matchers.containsString("9,250,000")))
+                .andExpect(content().string(Matchers.containsString("after=next")));
+
+        ArgumentCaptor<VenueFilter> filter = ArgumentCaptor.forClass(VenueFilter.class);
+        verify(venueQueryService).getVenues(filter.capture(), isNull(), eq(10));
+        assertThat(filter.getValue().getSort()).isEqualTo(VenueFilter.Sort.TOTAL_COST);
+        assertThat(filter.getValue().getMealPriceMin()).isEqualTo(50_000);
+        assertThat(filter.getValue().getGuaranteeMax()).isEqualTo(200);
+        verifyNoInteractions(postApplicationService);
+    }
+
+    @Test
+    @DisplayName("GET /boards/VENUE/posts/stats: 비용 통계를 JSON으로 반환한다")
+    void stats() throws Exception {
+        given(venueCostStatistics.getSummary()).willReturn(venueSummary());
+
+        mockMvc.perform(get("/boards/VENUE/posts/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.stats.venueCount").value(1))
+                .andExpect(jsonPath("$.stats.mealPrice.median").value(50000))
+                .andExpect(jsonPath("$.stats.totalCost.p90").value(5500000));
+    }
+
+    @Test
+    @DisplayName("GET /boards/GENERAL/posts/stats: 예식장 게시판이 아니면 400을 반환한다")
+    void stats_notVenue() throws Exception {
+        mockMvc.perform(get("/boards/GENERAL/posts/stats"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts/search: 검색 결과 페이지를 보여준다")
+    void search() throws Exception {
+        PostSummary post = new PostSummary(1L, "VENUE", "강남 웨딩홀", "user1", LocalDateTime.now(), 0, 0);
+        given(postSearchService.search(eq("VENUE"), eq("웨딩홀"), any()))
+                .willReturn(new PageImpl<>(List.of(post), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/boards/VENUE/posts/search").param("q", "웨딩홀"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("posts/search"))
+                .andExpect(model().attribute("query", "웨딩홀"))
+                .andExpect(content().string(Matchers.containsString("강남 웨딩홀")));
+
+        verify(postSearchService).search(eq("VENUE"), eq("웨딩홀"), eq(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts?after=: 커서 이후 목록을 조회한다")
+    void list_afterCursor() throws Exception {
+        given(postApplicationService.getPosts(eq("GENERAL"), eq("cursor"), isNull(), eq(10)))
+                .willReturn(PostSlice.of(List.of(), true, false));
+
+        mockMvc.perform(get("/boards/GENERAL/posts").param("after", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("posts/list"));
+
+        verify(postApplicationService).getPosts(eq("GENERAL"), eq("cursor"), isNull(), eq(10));
     }
 
     @Test
@@ -78,19 +246,72 @@ class PostControllerTest {
     void detail() throws Exception {
         User author = User.create("user1", "encoded");
         Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "viewCount", 10L);
         given(postApplicationService.getPost(1L)).willReturn(post);
-        given(commentApplicationService.getCommentsByPostId(1L)).willReturn(List.of());
+        given(postViewCounter.pending(1L)).willReturn(3L);
+        given(commentTreeCache.get(eq("GENERAL"), eq(post), isNull(), any(), any()))
+                .willReturn("<li class=\"cached-tree\">댓글</li>");
 
         mockMvc.perform(get("/boards/GENERAL/posts/1"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("posts/detail"))
                 .andExpect(model().attribute("post", post))
                 .andExpect(model().attribute("boardCode", "GENERAL"))
-                .andExpect(model().attributeExists("comments"))
-                .andExpect(model().attributeExists("commentForm"));
+                .andExpect(model().attributeDoesNotExist("comments"))
+                .andExpect(model().attributeExists("commentForm"))
+                .andExpect(model().attribute("viewCount", 13L))
+                .andExpect(content().string(Matchers.containsString("<li class=\"cached-tree\">댓글</li>")));
 
         verify(postApplicationService).getPost(1L);
-        verify(commentApplicationService).getCommentsByPostId(1L);
+        verify(postViewCounter).increment(1L);
+        verify(commentApplicationService, never()).getCommentsByPostId(any());
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts/{id}?editComment=: 댓글 수정 화면은 캐시 없이 댓글 트리를 그린다")
+    void detail_editCommentBypassesTreeCache() throws Exception {
+        User author = User.create("user1", "encoded");
+        ReflectionTestUtils.setField(author, "id", 1L);
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment comment = Comment.create("수정할 댓글", post, author);
+        ReflectionTestUtils.setField(comment, "id", 5L);
+        comment.materializePath();
+        given(postApplicationService.getPost(1L)).willReturn(post);
+        given(commentApplicationService.getCommentsByPostId(1L)).willReturn(List.of(comment));
+        given(commentApplicationService.getComment(5L)).willReturn(comment);
+
+        mockMvc.perform(get("/boards/GENERAL/posts/1").param("editComment", "5"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("comments", List.of(comment)))
+                .andExpect(model().attributeDoesNotExist("commentTreeHtml"))
+                .andExpect(content().string(Matchers.containsString("id=\"comment-5\"")));
+
+        verifyNoInteractions(commentTreeCache);
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts/{id}: 댓글이 많은 글은 최상위 댓글 첫 페이지만 조회한다")
+    void detail_lazyComments() throws Exception {
+        User author = User.create("user1", "encoded");
+        Post post = Post.create(board, "제목", "내용", author, null, null, null, null, null);
+        ReflectionTestUtils.setField(post, "id", 1L);
+        ReflectionTestUtils.setField(post, "commentCount", CommentController.LAZY_THREAD_THRESHOLD + 1);
+        Comment root = Comment.create("루트", post, author);
+        ReflectionTestUtils.setField(root, "id", 1L);
+        root.materializePath();
+        given(postApplicationService.getPost(1L)).willReturn(post);
+        given(commentApplicationService.getRootComments(1L, null, CommentController.ROOT_PAGE_SIZE))
+                .willReturn(CommentPage.roots(List.of(root), Map.of(1L, 300L), "next"));
+
+        mockMvc.perform(get("/boards/GENERAL/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("commentPage"))
+                .andExpect(model().attributeDoesNotExist("comments"))
+                .andExpect(content().string(Matchers.containsString("답글 <span>300</span>개 보기")))
+                .andExpect(content().string(Matchers.containsString("댓글 더 보기")));
+
+        verify(commentApplicationService, never()).getCommentsByPostId(any());
     }
 
     @Test
@@ -143,7 +364,7 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.id").value(1));
 
-        verify(postApplicationService).updatePost(eq(1L), any(UpdatePostCommand.class));
+        verify(postApplicationService).updatePost(eq("GENERAL"), eq(1L), any(UpdatePostCommand.class));
     }
 
     @Test
@@ -153,6 +374,12 @@ class PostControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
-        verify(postApplicationService).deletePost(1L);
+        verify(postApplicationService).deletePost("GENERAL", 1L);
+    }
+
+    private VenueCostSummary venueSummary() {
+        VenueCostStatistics statistics = new VenueCostStatistics(null);
+        statistics.update(new VenueCost(1L, 50_000, 100, 500_000, null));
+        return statistics.getSummary();
     }
 }
@@ -0,0 +1,83 @@
+package com.wedding.board.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.domain.board.Board;
+import com.wedding.board.domain.board.BoardRepository;
+import com.wedding.board.domain.post.Post;
+import com.wedding.board.domain.post.PostRepository;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@DisplayName("게시글 목록 SQL 실행 횟수")
+class PostListStatementCountTest {
+
+    private static final int AUTHOR_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Board board = boardRepository.findById("GENERAL").orElseThrow();
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            User author = userRepository.save(User.create("writer" + i, "encoded"));
+            users.add(author);
+            posts.add(postRepository.save(Post.create(board, "제목" + i, "내용", author, null, null, null, null, null)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll(posts);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("GET /boards/{boardCode}/posts: 작성자 수와 무관하게 한 번의 쿼리로 목록을 렌더링한다")
+    void listUsesSingleStatement() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/boards/GENERAL/posts"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("writer" + (AUTHOR_COUNT - 1))));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
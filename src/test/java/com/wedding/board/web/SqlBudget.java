@@ -0,0 +1,41 @@
+package com.wedding.board.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wedding.board.metrics.RequestMetricsInterceptor;
+import java.util.List;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc 요청 한 건이 실행한 SQL 문장 수 검증.
+ * RequestMetricsInterceptor 가 요청 속성에 남긴 문장 목록을 읽으므로 @SpringBootTest + @AutoConfigureMockMvc 에서 쓴다.
+ * <pre>mockMvc.perform(get(url)).andExpect(SqlBudget.atMost(2));</pre>
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            List<String> statements = statements(result);
+            assertThat(statements)
+                    .as("%s %s: SQL %d개 (예산 %d개)%n%s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), statements.size(), maxStatements,
+                            String.join(System.lineSeparator(), statements))
+                    .hasSizeLessThanOrEqualTo(maxStatements);
+        };
+    }
+
+    public static ResultMatcher none() {
+        return atMost(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<String> statements(MvcResult result) {
+        Object statements = result.getRequest().getAttribute(RequestMetricsInterceptor.STATEMENTS_ATTRIBUTE);
+        assertThat(statements).as("컨트롤러를 거친 요청이 아니거나 SQL 집계가 꺼져 있습니다").isNotNull();
+        return (List<String>) statements;
+    }
+}
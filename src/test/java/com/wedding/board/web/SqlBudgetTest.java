@@ -0,0 +1,204 @@
+package com.wedding.board.web;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wedding.board.application.comment.CommentApplicationService;
+import com.wedding.board.application.comment.CreateCommentCommand;
+import com.wedding.board.application.post.CreatePostCommand;
+import com.wedding.board.application.post.PostApplicationService;
+import com.wedding.board.domain.user.User;
+import com.wedding.board.domain.user.UserRepository;
+import com.wedding.board.security.CustomUserDetails;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * 컨트롤러 엔드포인트별 SQL 문장 수 예산.
+ * 상세/댓글 조회는 댓글 수와 무관하게 같은 예산 안에 들어와야 한다 (N+1 회귀 방지).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("엔드포인트별 SQL 예산")
+class SqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostApplicationService postApplicationService;
+
+    @Autowired
+    private CommentApplicationService commentApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private CustomUserDetails principal;
+    /** 정리할 글 id → 게시판 코드 */
+    private final Map<Long, String> postIds = new LinkedHashMap<>();
+    private final List<User> writers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.create("budget-user", "encoded"));
+        principal = new CustomUserDetails(author).withoutPassword();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postIds.forEach((id, boardCode) -> postApplicationService.deletePost(boardCode, id));
+        userRepository.deleteAll(writers);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("홈/로그인 화면은 SQL을 실행하지 않는다")
+    void staticPages() throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().is3xxRedirection()).andExpect(SqlBudget.none());
+        mockMvc.perform(get("/login")).andExpect(status().isOk()).andExpect(SqlBudget.none());
+    }
+
+    @Test
+    @DisplayName("목록/검색/통계: 글 수, 작성자 수와 무관한 고정 예산")
+    void listSearchStats() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            User writer = userRepository.save(User.create("budget-writer" + i, "encoded"));
+            writers.add(writer);
+            createPost("GENERAL", "예산 목록 " + i, writer.getId());
+        }
+        Long venueId = postApplicationService.createPost(new CreatePostCommand(
+                "VENUE", "예산 예식장", "내용", author.getId(), "서울", 60_000, 200, 1_000_000, 0));
+        postIds.put(venueId, "VENUE");
+
+        mockMvc.perform(get("/boards/GENERAL/posts")).andExpect(status().isOk()).andExpect(SqlBudget.atMost(1));
+        mockMvc.perform(get("/boards/VENUE/posts").param("mealPriceMax", "80000").param("sort", "cost"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(1));
+        mockMvc.perform(get("/boards/GENERAL/posts/search").param("q", "예산"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(1));
+        mockMvc.perform(get("/boards/VENUE/posts/stats")).andExpect(status().isOk()).andExpect(SqlBudget.none());
+    }
+
+    @Test
+    @DisplayName("상세: 댓글/답글 수와 무관하게 3개 이하 (긴 스레드는 최상위 페이지 + 답글 수 집계)")
+    void detail() throws Exception {
+        Long small = createPost("GENERAL", "댓글 적은 글", author.getId());
+        addThread(small, 2, 1);
+        Long large = createPost("GENERAL", "댓글 많은 글", author.getId());
+        addThread(large, 30, 3);
+        Long huge = createPost("GENERAL", "긴 스레드", author.getId());
+        addThread(huge, 70, 3);
+
+        for (Long id : List.of(small, large, huge)) {
+            mockMvc.perform(get("/boards/GENERAL/posts/" + id)).andExpect(status().isOk()).andExpect(SqlBudget.atMost(3));
+            mockMvc.perform(get("/boards/GENERAL/posts/" + id).with(user(principal)))
+                    .andExpect(status().isOk()).andExpect(SqlBudget.atMost(3));
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 페이지/답글 조회: 페이지 크기와 무관한 고정 예산")
+    void commentPages() throws Exception {
+        Long postId = createPost("GENERAL", "긴 스레드", author.getId());
+        List<Long> roots = addThread(postId, 70, 3);
+
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId + "/comments"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(3));
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId + "/comments/" + roots.get(0) + "/replies"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(3));
+    }
+
+    @Test
+    @DisplayName("글 작성/수정/삭제 화면과 요청")
+    void postWrites() throws Exception {
+        mockMvc.perform(get("/boards/GENERAL/posts/new").with(user(principal)))
+                .andExpect(status().isOk()).andExpect(SqlBudget.none());
+        String location = mockMvc.perform(post("/boards/GENERAL/posts").with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("title", "예산 글").param("content", "내용"))
+                .andExpect(status().is3xxRedirection()).andExpect(SqlBudget.atMost(3))
+                .andReturn().getResponse().getRedirectedUrl();
+        postIds.put(Long.valueOf(location.substring(location.lastIndexOf('/') + 1)), "GENERAL");
+
+        Long postId = createPost("GENERAL", "수정할 글", author.getId());
+        addThread(postId, 10, 2);
+        mockMvc.perform(get("/boards/GENERAL/posts/" + postId + "/edit").with(user(principal)))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(1));
+        // 수정은 조건부 UPDATE 한 문장, 나머지 하나는 커밋 후 검색 색인이 글을 다시 읽는 조회
+        mockMvc.perform(put("/boards/GENERAL/posts/" + postId).with(user(principal)).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"수정\",\"content\":\"수정 내용\"}"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(2));
+        mockMvc.perform(delete("/boards/GENERAL/posts/" + postId).with(user(principal)).with(csrf()))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(3));
+        postIds.remove(postId);
+    }
+
+    @Test
+    @DisplayName("댓글 작성/수정/삭제: 스레드 크기와 무관한 고정 예산")
+    void commentWrites() throws Exception {
+        Long postId = createPost("GENERAL", "댓글 쓸 글", author.getId());
+        List<Long> roots = addThread(postId, 30, 3);
+
+        mockMvc.perform(commentRequest(post("/boards/GENERAL/posts/" + postId + "/comments"))
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("content", "새 댓글"))
+                .andExpect(status().is3xxRedirection()).andExpect(SqlBudget.atMost(3));
+        mockMvc.perform(commentRequest(post("/boards/GENERAL/posts/" + postId + "/comments"))
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("content", "새 답글").param("parentId", String.valueOf(roots.get(0))))
+                .andExpect(status().is3xxRedirection()).andExpect(SqlBudget.atMost(4));
+        mockMvc.perform(commentRequest(put("/boards/GENERAL/posts/" + postId + "/comments/" + roots.get(1)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"수정\"}"))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(2));
+        mockMvc.perform(commentRequest(delete("/boards/GENERAL/posts/" + postId + "/comments/" + roots.get(2))))
+                .andExpect(status().isOk()).andExpect(SqlBudget.atMost(2));
+    }
+
+    private MockHttpServletRequestBuilder commentRequest(MockHttpServletRequestBuilder builder) {
+        return builder.with(user(principal)).with(csrf());
+    }
+
+    private Long createPost(String boardCode, String title, Long authorId) {
+        Long id = postApplicationService.createPost(
+                new CreatePostCommand(boardCode, title, "내용", authorId, null, null, null, null, null));
+        postIds.put(id, boardCode);
+        return id;
+    }
+
+    /** 최상위 댓글 roots 개와 각각 depth 단계의 답글 사슬을 만들고 최상위 댓글 id 를 돌려준다 */
+    private List<Long> addThread(Long postId, int roots, int depth) {
+        List<Long> rootIds = new ArrayList<>();
+        for (int r = 0; r < roots; r++) {
+            Long parentId = null;
+            for (int d = 0; d < depth; d++) {
+                Long id = commentApplicationService.createComment("GENERAL",
+                        new CreateCommentCommand("댓글 " + r + "-" + d, postId, author.getId(), parentId));
+                if (d == 0) {
+                    rootIds.add(id);
+                }
+                parentId = id;
+            }
+        }
+        return rootIds;
+    }
+}